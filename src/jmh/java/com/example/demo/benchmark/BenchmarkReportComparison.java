@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH 결과(JSON) 두 개를 비교해서 벤치마크별 변화율 출력
+ * 커밋 전후로 같은 벤치마크를 실행한 결과를 비교하는 용도
+ *
+ * 사용: ./gradlew jmhCompare -Pbaseline=before -Pcurrent=after
+ *   (build/reports/jmh/before.json, build/reports/jmh/after.json 비교)
+ */
+public class BenchmarkReportComparison {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("사용법: BenchmarkReportComparison <기준 결과.json> <비교 결과.json>");
+            System.exit(1);
+        }
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        System.out.printf("%-70s %22s %22s %9s%n", "벤치마크", "기준", "비교", "변화");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result after = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %22s %22s %9s%n", entry.getKey(), "-", after.format(), "새 항목");
+                continue;
+            }
+            // 평균 시간(낮을수록 좋음) 기준: 음수면 빨라짐
+            double change = (after.score - before.score) / before.score * 100;
+            System.out.printf("%-70s %22s %22s %+8.1f%%%n", entry.getKey(), before.format(), after.format(), change);
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s %22s %22s %9s%n", name, baseline.get(name).format(), "-", "없어짐");
+            }
+        }
+    }
+
+    // 벤치마크 이름 + 파라미터 → 결과
+    private static Map<String, Result> read(File file) throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            String benchmark = run.path("benchmark").asText();
+            String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+
+            StringBuilder params = new StringBuilder();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.append(params.length() == 0 ? " [" : ", ").append(field.getKey()).append('=').append(field.getValue().asText());
+            }
+            if (params.length() > 0) {
+                params.append(']');
+            }
+
+            JsonNode metric = run.path("primaryMetric");
+            results.put(name + params, new Result(metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    private static class Result {
+        private final double score;
+        private final double error;
+        private final String unit;
+
+        Result(double score, double error, String unit) {
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        String format() {
+            return Double.isNaN(error)
+                    ? String.format("%.2f %s", score, unit)
+                    : String.format("%.2f ± %.2f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.benchmark;
+
+/**
+ * 벤치마크 입력 (제출물/과제 본문과 비슷한 텍스트, 정규식 역추적을 일으키는 입력)
+ */
+final class XssPayloads {
+
+    // 크기: 짧은 입력(제목/피드백), 중간(5천 자), 최대(제출물 1만 자)
+    static final int SMALL = 200;
+    static final int MEDIUM = 5_000;
+    static final int MAXIMUM = 10_000;
+
+    private static final String KOREAN_PARAGRAPH =
+            "이번 과제에서는 정렬 알고리즘의 시간 복잡도를 비교했습니다. 삽입 정렬은 거의 정렬된 입력에서 빠르지만 "
+                    + "무작위 입력에서는 O(n^2)로 느려집니다. 병합 정렬은 항상 O(n log n)이며 추가 메모리가 필요합니다. "
+                    + "실험 결과는 아래 표와 같고, 입력 크기가 커질수록 차이가 분명해졌습니다.\n";
+
+    private static final String ENGLISH_PARAGRAPH =
+            "In this assignment I compared the running time of several sorting algorithms. Insertion sort is fast "
+                    + "on nearly sorted input, but degrades to O(n^2) on random data. Merge sort is always O(n log n) "
+                    + "and needs extra memory; the evaluation (see table 2) shows the gap widening as n grows.\n";
+
+    private static final String CODE_PARAGRAPH =
+            "for (int i = 1; i < n; i++) { int key = a[i]; int j = i - 1; "
+                    + "while (j >= 0 && a[j] > key) { a[j + 1] = a[j]; j--; } a[j + 1] = key; } // source: lecture 3\n";
+
+    // 키워드 뒤에 닫는 문자(')', '=', '>', 따옴표)가 끝까지 나오지 않는 입력
+    // 이전 정규식은 키워드가 나올 때마다 입력 끝까지 다시 읽음 (입력 길이의 제곱에 비례)
+    private static final String ADVERSARIAL_UNIT = "eval( expression( onmouseover onload <script src\r\n ";
+
+    private XssPayloads() {
+    }
+
+    static String korean(int length) {
+        return repeat(KOREAN_PARAGRAPH, length);
+    }
+
+    static String english(int length) {
+        return repeat(ENGLISH_PARAGRAPH, length);
+    }
+
+    // 한글, 영문, 코드('<', '>', '&' 포함)가 섞인 본문
+    static String mixed(int length) {
+        return repeat(KOREAN_PARAGRAPH + ENGLISH_PARAGRAPH + CODE_PARAGRAPH, length);
+    }
+
+    static String adversarial(int length) {
+        return repeat(ADVERSARIAL_UNIT, length);
+    }
+
+    static String of(String kind, int length) {
+        return switch (kind) {
+            case "korean" -> korean(length);
+            case "english" -> english(length);
+            case "mixed" -> mixed(length);
+            case "adversarial" -> adversarial(length);
+            default -> throw new IllegalArgumentException("알 수 없는 입력 종류입니다: " + kind);
+        };
+    }
+
+    private static String repeat(String unit, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(unit);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
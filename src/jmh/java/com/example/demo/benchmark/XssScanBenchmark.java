@@ -0,0 +1,84 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.XSSUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * XSS 검사 벤치마크: 이전 정규식 13개 vs 단일 패스 검사기 (XSSUtils.containsXSS)
+ * 입력은 XSS 패턴이 없는 제출물 본문 (끝까지 읽어야 하므로 가장 느린 경우)과 정규식 역추적을 일으키는 입력
+ *
+ * 실행: ./gradlew jmh -Pbenchmarks=XssScanBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XssScanBenchmark {
+
+    // 이전 XSSUtils.containsXSS가 사용하던 정규식
+    private static final Pattern[] LEGACY_PATTERNS = {
+            Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onerror(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onclick(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onmouseover(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
+    };
+
+    @Param({"korean", "english", "mixed", "adversarial"})
+    private String kind;
+
+    @Param({"10000"})
+    private int length;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = XssPayloads.of(kind, length);
+        if (legacyContainsXSS(text) || XSSUtils.containsXSS(text)) {
+            throw new IllegalStateException("벤치마크 입력에 XSS 패턴이 포함되어 있습니다: " + kind);
+        }
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return legacyContainsXSS(text);
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        return XSSUtils.containsXSS(text);
+    }
+
+    private static boolean legacyContainsXSS(String input) {
+        for (Pattern pattern : LEGACY_PATTERNS) {
+            if (pattern.matcher(input).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
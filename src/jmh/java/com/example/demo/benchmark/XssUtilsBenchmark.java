@@ -0,0 +1,69 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.XSSUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XSSUtils 벤치마크 (모든 쓰기 요청에서 호출되는 검사/이스케이프)
+ *
+ * - length: 200 (제목, 피드백), 5000 (중간), 10000 (제출물 최대 길이)
+ * - kind: mixed (한글/영문/코드가 섞인 본문), adversarial (정규식 역추적을 일으키는 입력)
+ *
+ * 실행: ./gradlew jmh -Pbenchmarks=XssUtilsBenchmark -PjmhResult=before
+ * 결과 비교: ./gradlew jmhCompare -Pbaseline=before -Pcurrent=after
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XssUtilsBenchmark {
+
+    @Param({"mixed", "adversarial"})
+    private String kind;
+
+    @Param({"200", "5000", "10000"})
+    private int length;
+
+    private String text;
+    private String escaped;
+
+    @Setup
+    public void setUp() {
+        text = XssPayloads.of(kind, length);
+        escaped = XSSUtils.toSafeText(text);
+    }
+
+    @Benchmark
+    public boolean containsXSS() {
+        return XSSUtils.containsXSS(text);
+    }
+
+    @Benchmark
+    public String sanitizeInput() {
+        return XSSUtils.sanitizeInput(text);
+    }
+
+    @Benchmark
+    public String toSafeText() {
+        return XSSUtils.toSafeText(text);
+    }
+
+    @Benchmark
+    public String unescapeHtml() {
+        return XSSUtils.unescapeHtml(escaped);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.loadtest;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 서버에 대한 HTTP 부하 테스트
+ * 같은 조건으로 spring.threads.virtual.enabled=false / true 서버를 각각 띄워 처리량과 p99 지연 시간을 비교
+ *
+ * 설정 (시스템 프로퍼티):
+ *   baseUrl          서버 주소 (기본 http://localhost:8080)
+ *   studentId        로그인할 학생 학번 (없으면 로그인하지 않음)
+ *   password         학생 비밀번호
+ *   paths            요청할 경로 목록, 쉼표 구분 (기본 /api/student/submissions,/api/student/questions)
+ *   concurrency      동시 요청 수 (기본 200)
+ *   durationSeconds  측정 시간 (기본 30)
+ *   warmupSeconds    측정 전 예열 시간 (기본 5)
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        String studentId = System.getProperty("studentId");
+        String password = System.getProperty("password", "");
+        List<String> paths = Arrays.asList(System.getProperty("paths",
+                "/api/student/submissions,/api/student/questions").split(","));
+        int concurrency = Integer.parseInt(System.getProperty("concurrency", "200"));
+        long durationSeconds = Long.parseLong(System.getProperty("durationSeconds", "30"));
+        long warmupSeconds = Long.parseLong(System.getProperty("warmupSeconds", "5"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        if (studentId != null) {
+            login(client, baseUrl, studentId, password);
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        System.out.printf("부하 테스트 시작: %s, 동시 요청 %d, 예열 %ds, 측정 %ds%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds);
+
+        // 클라이언트 쪽 스레드가 병목이 되지 않도록 가상 스레드로 요청 생성
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> runWorker(client, baseUrl, paths, offset, measureFrom, end)));
+            }
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        int failures = 0;
+        for (Future<WorkerResult> future : futures) {
+            WorkerResult result = future.get();
+            latencies.addAll(result.latencies);
+            result.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Integer::sum));
+            failures += result.failures;
+        }
+
+        report(latencies, statusCounts, failures, durationSeconds);
+    }
+
+    private static void login(HttpClient client, String baseUrl, String studentId, String password) throws Exception {
+        String body = "{\"studentId\":\"" + studentId + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login/student"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || !response.body().contains("\"success\":true")) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static WorkerResult runWorker(HttpClient client, String baseUrl, List<String> paths,
+                                          int offset, long measureFrom, long end) {
+        WorkerResult result = new WorkerResult();
+        int index = offset;
+
+        while (System.nanoTime() < end) {
+            String path = paths.get(index++ % paths.size()).trim();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            long sent = System.nanoTime();
+            try {
+                // 다운로드 경로도 끝까지 읽어야 실제 전송 시간이 측정됨
+                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream in = response.body()) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+                long received = System.nanoTime();
+
+                if (sent >= measureFrom) {
+                    result.latencies.add(received - sent);
+                    result.statusCounts.merge(response.statusCode(), 1, Integer::sum);
+                }
+            } catch (Exception e) {
+                if (sent >= measureFrom) {
+                    result.failures++;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void report(List<Long> latencies, Map<Integer, Integer> statusCounts,
+                               int failures, long durationSeconds) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        System.out.printf("요청 수: %d (실패 %d)%n", sorted.length, failures);
+        System.out.printf("처리량: %.1f req/s%n", sorted.length / (double) durationSeconds);
+        if (sorted.length > 0) {
+            System.out.printf("지연 시간(ms): p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted[sorted.length - 1] / 1_000_000.0);
+        }
+        System.out.println("응답 코드: " + statusCounts);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static class WorkerResult {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+        private int failures;
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.AssignmentSummaryDTO;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.SubmissionSummaryDTO;
 import com.example.demo.repository.*;
 import com.example.demo.service.AdministratorService;
+import com.example.demo.service.CoursePurgeService;
+import com.example.demo.service.MetadataCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -157,17 +162,45 @@ public class AdministratorController {
 
     // 전체 강의 목록 페이지
     @GetMapping("/courses")
-    public String manageCourses(Model model, HttpSession session) {
+    public String manageCourses(@RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer size,
+                                Model model, HttpSession session) {
         if (!checkAdminSession(session)) {
             return "redirect:/";
         }
 
-        List<Course> courses = administratorService.getAllCourses();
-        model.addAttribute("courses", courses);
+        CursorPage<Course> page = administratorService.getCoursesPage(cursor, size);
+        model.addAttribute("courses", page.getItems());
+        model.addAttribute("totalCourses", administratorService.countCourses());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("purgeStatuses", administratorService.getCoursePurgeStatuses());
 
         return "administrator/administrator-manage-courses";
     }
 
+    // 삭제 중인 강의 정리 진행 상황 (AJAX용)
+    @GetMapping("/course-purge-status")
+    @ResponseBody
+    public List<CoursePurgeService.PurgeStatus> coursePurgeStatus(HttpSession session) {
+        if (!checkAdminSession(session)) {
+            throw new RuntimeException("관리자 로그인이 필요합니다.");
+        }
+
+        return administratorService.getCoursePurgeStatuses();
+    }
+
+    // 강의/과제 메타데이터 캐시 적중률 (운영 확인용)
+    @GetMapping("/metadata-cache-stats")
+    @ResponseBody
+    public List<MetadataCacheService.CacheStats> metadataCacheStats(HttpSession session) {
+        if (!checkAdminSession(session)) {
+            throw new RuntimeException("관리자 로그인이 필요합니다.");
+        }
+
+        return administratorService.getMetadataCacheStats();
+    }
+
     // 강의 상세 정보 페이지
     @GetMapping("/course/{courseCode}")
     public String courseDetails(@PathVariable String courseCode, Model model, HttpSession session) {
@@ -212,13 +245,18 @@ public class AdministratorController {
 
     // 전체 과제 목록 페이지
     @GetMapping("/assignments")
-    public String manageAssignments(Model model, HttpSession session) {
+    public String manageAssignments(@RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer size,
+                                    Model model, HttpSession session) {
         if (!checkAdminSession(session)) {
             return "redirect:/";
         }
 
-        List<Assignment> assignments = administratorService.getAllAssignments();
-        model.addAttribute("assignments", assignments);
+        CursorPage<AssignmentSummaryDTO> page = administratorService.getAssignmentsPage(cursor, size);
+        model.addAttribute("assignments", page.getItems());
+        model.addAttribute("totalAssignments", administratorService.countAssignments());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("cursor", cursor);
 
         return "administrator/administrator-manage-assignments";
     }
@@ -238,8 +276,8 @@ public class AdministratorController {
         // 과제 통계 조회
         AdministratorService.AssignmentStatistics stats = administratorService.getAssignmentStatistics(assignmentCode);
 
-        // 제출물 목록 조회
-        List<Submission> submissions = submissionRepository.findByAssignmentCode(assignmentCode);
+        // 제출물 목록 조회 (목록용 요약, 피드백은 미리보기)
+        List<SubmissionSummaryDTO> submissions = submissionRepository.findSummariesByAssignmentCode(assignmentCode);
 
         model.addAttribute("assignment", assignment);
         model.addAttribute("stats", stats);
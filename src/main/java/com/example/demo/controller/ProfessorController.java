@@ -1,19 +1,29 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.AssignmentSummaryDTO;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.QuestionSummaryDTO;
 import com.example.demo.dto.SubmissionDTO;
+import com.example.demo.dto.SubmissionSummaryDTO;
 import com.example.demo.service.ProfessorService;
+import com.example.demo.service.SubmissionExportService;
 import com.example.demo.util.XSSUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import jakarta.servlet.http.HttpSession;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +37,9 @@ public class ProfessorController {
     @Autowired
     private ProfessorService professorService;
 
+    @Autowired
+    private SubmissionExportService submissionExportService;
+
     private boolean hasPermissionForCourse(Professor professor, Course course) {
         if (course == null || professor == null) {
             return false;
@@ -55,16 +68,21 @@ public class ProfessorController {
 
     // 과제 관리 메인 페이지
     @GetMapping("/assignments")
-    public String assignmentManagement(Model model, HttpSession session) {
+    public String assignmentManagement(@RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer size,
+                                       Model model, HttpSession session) {
         Professor professor = (Professor) session.getAttribute("user");
         if (professor == null) {
             return "redirect:/";
         }
 
         try {
-            List<Assignment> assignments = professorService.getProfessorAssignments(professor.getProfessorId());
+            // 최근 생성 순 페이지 단위 조회
+            CursorPage<AssignmentSummaryDTO> page = professorService.getProfessorAssignmentsPage(professor.getProfessorId(), cursor, size);
             model.addAttribute("professor", professor);
-            model.addAttribute("assignments", assignments);
+            model.addAttribute("assignments", page.getItems());
+            model.addAttribute("nextCursor", page.getNextCursor());
+            model.addAttribute("cursor", cursor);
         } catch (Exception e) {
             model.addAttribute("error", "과제 목록을 불러오는데 실패했습니다.");
         }
@@ -81,15 +99,8 @@ public class ProfessorController {
         }
 
         try {
+            // 수강생 수와 과제 수는 Course의 집계 카운터 컬럼에 저장되어 있음
             List<Course> courses = professorService.getProfessorCourses(professor.getProfessorId());
-            // 각 강의의 수강생 수와 과제 수도 함께 조회
-            for (Course course : courses) {
-                List<Student> students = professorService.getCourseStudents(course.getCourseCode());
-                List<Assignment> assignments = professorService.getCourseAssignments(course.getCourseCode());
-                // Transient 필드 활용 (Course 엔티티에 추가 필요)
-                course.setStudentCount(students.size());
-                course.setAssignmentCount(assignments.size());
-            }
 
             model.addAttribute("professor", professor);
             model.addAttribute("courses", courses);
@@ -350,6 +361,9 @@ public class ProfessorController {
     @GetMapping("/questions")
     public String questionManagement(@RequestParam(required = false) String courseCode,
                                      @RequestParam(required = false) String assignmentCode,
+                                     @RequestParam(defaultValue = "false") boolean unanswered,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(required = false) Integer size,
                                      Model model,
                                      HttpSession session) {
         Professor professor = (Professor) session.getAttribute("user");
@@ -371,25 +385,22 @@ public class ProfessorController {
                 assignments = professorService.getProfessorAssignments(professor.getProfessorId());
             }
 
-            // 필터링된 질문 목록 조회
-            List<Question> questions;
-            if (assignmentCode != null && !assignmentCode.isEmpty()) {
-                // 특정 과제의 질문만 조회
-                questions = professorService.getAssignmentQuestions(Integer.parseInt(assignmentCode));
-            } else if (courseCode != null && !courseCode.isEmpty()) {
-                // 특정 강의의 모든 질문 조회
-                questions = professorService.getCourseQuestions(courseCode);
-            } else {
-                // 교수의 모든 질문 조회 (기본값)
-                questions = professorService.getProfessorQuestions(professor.getProfessorId());
-            }
+            // 필터링된 질문 목록 조회 (특정 과제 > 특정 강의 > 교수의 모든 질문, 최근 질문 순 페이지 단위)
+            Integer selectedAssignment = assignmentCode != null && !assignmentCode.isEmpty()
+                    ? Integer.valueOf(assignmentCode)
+                    : null;
+            CursorPage<QuestionSummaryDTO> page = professorService.getQuestionInboxPage(professor.getProfessorId(),
+                    courseCode, selectedAssignment, unanswered, cursor, size);
 
             model.addAttribute("professor", professor);
             model.addAttribute("courses", courses);
             model.addAttribute("assignments", assignments);
-            model.addAttribute("questions", questions);
+            model.addAttribute("questions", page.getItems());
+            model.addAttribute("nextCursor", page.getNextCursor());
+            model.addAttribute("cursor", cursor);
             model.addAttribute("selectedCourseCode", courseCode);
             model.addAttribute("selectedAssignmentCode", assignmentCode);
+            model.addAttribute("unansweredOnly", unanswered);
 
         } catch (Exception e) {
             model.addAttribute("error", "질문 목록을 불러오는데 실패했습니다: " + e.getMessage());
@@ -436,7 +447,7 @@ public class ProfessorController {
 
         try {
             Assignment assignment = professorService.getAssignmentDetails(assignmentCode);
-            List<Submission> submissions = professorService.getAssignmentSubmissions(assignmentCode);
+            List<SubmissionSummaryDTO> submissions = professorService.getAssignmentSubmissions(assignmentCode);
 
             // 교수 권한 확인
 //            if (!assignment.getCourse().getProfessorId().equals(professor.getProfessorId())) {
@@ -455,6 +466,41 @@ public class ProfessorController {
         return "professor/professor-submissions";
     }
 
+    // 과제 제출물 전체 ZIP 다운로드 (제출 파일 + manifest.csv)
+    @GetMapping("/assignment/{assignmentCode}/submissions/export")
+    public ResponseEntity<StreamingResponseBody> exportSubmissions(@PathVariable int assignmentCode,
+                                                                   HttpSession session) {
+        Professor professor = (Professor) session.getAttribute("user");
+        if (professor == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            Assignment assignment = professorService.getAssignmentDetails(assignmentCode);
+            if (!hasPermissionForCourse(professor, assignment.getCourse())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            List<Submission> submissions = submissionExportService.getSubmissionsForExport(assignmentCode);
+
+            String encodedFileName = URLEncoder.encode(
+                    assignment.getTitle() + "_제출물.zip",
+                    StandardCharsets.UTF_8
+            ).replaceAll("\\+", "%20");
+
+            StreamingResponseBody body = out -> submissionExportService.writeZip(submissions, out);
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .body(body);
+
+        } catch (Exception e) {
+            System.err.println("Error exporting submissions: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     // 과제 수정 페이지 (수정)
     @GetMapping("/assignment/{assignmentCode}/edit")
     public String editAssignmentForm(@PathVariable int assignmentCode,
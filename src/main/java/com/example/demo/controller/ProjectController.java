@@ -3,6 +3,7 @@ package com.example.demo.controller;
 import com.example.demo.domain.*;
 import com.example.demo.repository.*;
 import com.example.demo.service.AuthenticationService;
+import com.example.demo.service.ProfessorService;
 import com.example.demo.util.XSSUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -42,6 +43,9 @@ public class ProjectController {
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Autowired
+    private ProfessorService professorService;
+
     // 권한 체크 메서드 추가
     private boolean checkProfessorAccess(Course course, String professorId) {
         if (course.getProfessorId().equals(professorId)) {
@@ -480,11 +484,10 @@ public class ProjectController {
         // 교수가 등록한 과제 목록 조회
         List<Assignment> assignments = assignmentRepository.findByProfessorIdOrSubProfessorsId(professor.getProfessorId());
 
-        int enrollments = 0;
-
-        for(Course course : courses) {
-            enrollments += enrollmentRepository.findByCourseCode(course.getCourseCode()).size();
-        }
+        // 강의별 수강생 수 카운터 합계
+        int enrollments = courses.stream()
+                .mapToInt(Course::getStudentCount)
+                .sum();
 
         model.addAttribute("professor", professor);
         model.addAttribute("courses", courses);
@@ -553,16 +556,25 @@ public class ProjectController {
                 return "professor/professor-create-course";
             }
 
+            String normalizedCode = courseCode.trim().toUpperCase(); // 강의코드는 대문자로 통일
+
             // 강의 코드 중복 체크
-            if (courseRepository.existsByCourseCode(courseCode.trim())) {
+            if (courseRepository.existsByCourseCode(normalizedCode)) {
                 model.addAttribute("professor", professor);
                 model.addAttribute("error", "이미 사용 중인 강의 코드입니다.");
                 return "professor/professor-create-course";
             }
 
+            // 삭제된 강의의 행은 CoursePurgeService가 정리할 때까지 강의 코드(PK)를 계속 사용
+            if (courseRepository.countDeletedByCourseCode(normalizedCode) > 0) {
+                model.addAttribute("professor", professor);
+                model.addAttribute("error", "삭제된 강의의 데이터를 정리하는 중인 강의 코드입니다. 정리가 끝난 뒤 다시 시도하거나 다른 코드를 사용해주세요.");
+                return "professor/professor-create-course";
+            }
+
             Course newCourse = new Course();
-            newCourse.setCourseName(XSSUtils.sanitizeInput(courseName.trim()));
-            newCourse.setCourseCode(courseCode.trim().toUpperCase()); // 강의코드는 대문자로 통일
+            newCourse.setCourseName(XSSUtils.sanitizeTrimmed(courseName));
+            newCourse.setCourseCode(normalizedCode);
             newCourse.setProfessorId(professor.getProfessorId());
 
             courseRepository.save(newCourse);
@@ -654,8 +666,8 @@ public class ProjectController {
             Assignment newAssignment = new Assignment();
             newAssignment.setCourseCode(courseId);
             newAssignment.setCourse(course);
-            newAssignment.setTitle(XSSUtils.sanitizeInput(title.trim()));
-            newAssignment.setContent(XSSUtils.sanitizeInput(content.trim()));
+            newAssignment.setTitle(XSSUtils.sanitizeTrimmed(title));
+            newAssignment.setContent(XSSUtils.sanitizeTrimmed(content));
 
             // 날짜와 시간을 합쳐서 LocalDateTime으로 변환
             LocalDate date = LocalDate.parse(dueDate, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
@@ -674,7 +686,7 @@ public class ProjectController {
             newAssignment.setDueDate(dueDateTime);
             newAssignment.setCreatedDate(LocalDateTime.now());
 
-            assignmentRepository.save(newAssignment);
+            professorService.createAssignment(newAssignment);
 
             return "redirect:/professor-main?assignmentCreated=true";
 
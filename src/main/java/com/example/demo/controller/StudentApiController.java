@@ -1,15 +1,20 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.QuestionDTO;
-import com.example.demo.dto.SubmissionDTO;
+import com.example.demo.dto.SubmissionSummaryDTO;
+import com.example.demo.service.ChunkedUploadService;
+import com.example.demo.service.MetadataCacheService;
 import com.example.demo.service.StudentService;
+import com.example.demo.service.SubmissionAdmissionService;
+import com.example.demo.service.SubmissionUploadService;
 import com.example.demo.util.XSSUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import java.net.URLEncoder;
@@ -30,6 +36,18 @@ public class StudentApiController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private SubmissionUploadService submissionUploadService;
+
+    @Autowired
+    private SubmissionAdmissionService admissionService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
     // 과제 상세 정보 조회 (수정된 버전)
     @GetMapping("/assignment/{assignmentCode}")
     public ResponseEntity<?> getAssignmentDetails(@PathVariable int assignmentCode, HttpSession session) {
@@ -100,29 +118,130 @@ public class StudentApiController {
         }
     }
 
-    // 과제 제출 (파일 포함)
+    // 과제 제출 (파일 포함, multipart 본문을 스트리밍으로 읽어 파일 저장소에 바로 기록)
     @PostMapping("/submission/file")
-    public ResponseEntity<?> submitAssignmentWithFile(
-            @RequestParam("assignmentCode") int assignmentCode,
-            @RequestParam("content") String content,
-            @RequestParam(value = "file", required = false) MultipartFile file,
-            HttpSession session) {
+    public ResponseEntity<?> submitAssignmentWithFile(HttpServletRequest request, HttpSession session) {
         try {
             String studentId = (String) session.getAttribute("userId");
             if (studentId == null) {
                 return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
             }
 
-            if (content.trim().isEmpty()) {
+            // 파일이 있으면 파일과 함께 제출, 없으면 텍스트만 제출
+            Submission submission = submissionUploadService.submit(request, studentId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "과제가 성공적으로 제출되었습니다.");
+            response.put("submissionId", submission.getSubmissionCode());
+            response.put("submissionCode", submission.getSubmissionCode());
+
+            return ResponseEntity.ok(response);
+        } catch (SubmissionAdmissionService.RejectedException e) {
+            return tooManyRequests(e);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 분할 업로드 시작 (assignmentCode: 새 제출, submissionCode: 기존 제출물 수정)
+    @PostMapping("/upload/init")
+    public ResponseEntity<?> initChunkedUpload(@RequestBody Map<String, Object> request, HttpSession session) {
+        try {
+            String studentId = (String) session.getAttribute("userId");
+            if (studentId == null) {
+                return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
+            }
+
+            if (request.get("fileName") == null || request.get("size") == null) {
+                return ResponseEntity.badRequest().body(createErrorResponse("필수 정보가 누락되었습니다."));
+            }
+
+            Integer assignmentCode = request.get("assignmentCode") != null ? parseToInt(request.get("assignmentCode")) : null;
+            Integer submissionCode = request.get("submissionCode") != null ? parseToInt(request.get("submissionCode")) : null;
+            long size = Long.parseLong(request.get("size").toString());
+            String contentType = request.get("contentType") != null ? request.get("contentType").toString() : null;
+
+            UploadSession upload = chunkedUploadService.init(studentId, assignmentCode, submissionCode,
+                    request.get("fileName").toString(), contentType, size);
+
+            Map<String, Object> response = uploadStatusResponse(upload);
+            response.put("chunkSize", chunkedUploadService.getChunkSize());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 분할 업로드 상태 조회 (연결이 끊긴 뒤 이어서 보낼 위치 확인)
+    @GetMapping("/upload/{uploadId}")
+    public ResponseEntity<?> getChunkedUpload(@PathVariable String uploadId, HttpSession session) {
+        try {
+            String studentId = (String) session.getAttribute("userId");
+            if (studentId == null) {
+                return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
+            }
+
+            return ResponseEntity.ok(uploadStatusResponse(chunkedUploadService.getSession(uploadId, studentId)));
+        } catch (Exception e) {
+            return ResponseEntity.status(404).body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 청크 전송 (요청 본문을 그대로 offset 위치에 기록, multipart 파싱 없음)
+    @PutMapping(value = "/upload/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> putChunk(@PathVariable String uploadId,
+                                      @RequestParam("offset") long offset,
+                                      HttpServletRequest request,
+                                      HttpSession session) {
+        try {
+            String studentId = (String) session.getAttribute("userId");
+            if (studentId == null) {
+                return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
+            }
+
+            UploadSession upload = chunkedUploadService.getSession(uploadId, studentId);
+            if (offset > upload.getReceivedSize()) {
+                // 중간 청크가 빠진 경우: 받은 위치를 알려주고 거기서부터 다시 전송하도록 함
+                Map<String, Object> response = uploadStatusResponse(upload);
+                response.put("success", false);
+                response.put("message", "청크 위치가 올바르지 않습니다.");
+                return ResponseEntity.status(409).body(response);
+            }
+
+            long received = chunkedUploadService.appendChunk(uploadId, studentId, offset, request.getInputStream());
+
+            Map<String, Object> response = uploadStatusResponse(upload);
+            response.put("received", received);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 분할 업로드 완료 (SHA-256 확인 후 제출 또는 수정)
+    @PostMapping("/upload/{uploadId}/complete")
+    public ResponseEntity<?> completeChunkedUpload(@PathVariable String uploadId,
+                                                   @RequestBody Map<String, Object> request,
+                                                   HttpSession session) {
+        try {
+            String studentId = (String) session.getAttribute("userId");
+            if (studentId == null) {
+                return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
+            }
+
+            Object contentObj = request.get("content");
+            if (contentObj == null || contentObj.toString().trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(createErrorResponse("제출 내용을 입력해주세요."));
             }
 
-            // 파일이 있으면 파일과 함께 제출, 없으면 텍스트만 제출
+            Object sha256Obj = request.get("sha256");
+            UploadSession upload = chunkedUploadService.getSession(uploadId, studentId);
+
             Submission submission;
-            if (file != null && !file.isEmpty()) {
-                submission = studentService.submitAssignmentWithFile(assignmentCode, studentId, content, file);
-            } else {
-                submission = studentService.submitAssignment(assignmentCode, studentId, content);
+            try (SubmissionAdmissionService.Ticket ticket = admissionService.admit(upload.getAssignmentCode())) {
+                submission = chunkedUploadService.complete(uploadId, studentId, contentObj.toString(),
+                        sha256Obj != null ? sha256Obj.toString() : null);
             }
 
             Map<String, Object> response = new HashMap<>();
@@ -132,11 +251,38 @@ public class StudentApiController {
             response.put("submissionCode", submission.getSubmissionCode());
 
             return ResponseEntity.ok(response);
+        } catch (SubmissionAdmissionService.RejectedException e) {
+            return tooManyRequests(e);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 분할 업로드 취소
+    @DeleteMapping("/upload/{uploadId}")
+    public ResponseEntity<?> cancelChunkedUpload(@PathVariable String uploadId, HttpSession session) {
+        try {
+            String studentId = (String) session.getAttribute("userId");
+            if (studentId == null) {
+                return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
+            }
+
+            chunkedUploadService.cancel(uploadId, studentId);
+            return ResponseEntity.ok(createSuccessResponse("업로드가 취소되었습니다."));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
         }
     }
 
+    private Map<String, Object> uploadStatusResponse(UploadSession upload) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("uploadId", upload.getUploadId());
+        response.put("size", upload.getTotalSize());
+        response.put("received", upload.getReceivedSize());
+        return response;
+    }
+
     @GetMapping("/submission/{submissionCode}/download")
     public ResponseEntity<Resource> downloadFile(@PathVariable int submissionCode, HttpSession session) {
         try {
@@ -161,8 +307,9 @@ public class StudentApiController {
                 hasPermission = submission.getStudentId().equals(userId);
             } else if (user instanceof Professor) {
                 // 교수인 경우: 해당 과제의 담당 교수인지 확인
-                Assignment assignment = studentService.getAssignmentDetails(submission.getAssignmentCode());
-                hasPermission = assignment.getCourse().getProfessorId().equals(((Professor) user).getProfessorId());
+                MetadataCacheService.AssignmentInfo assignment = metadataCacheService.getAssignment(submission.getAssignmentCode());
+                MetadataCacheService.CourseInfo course = assignment == null ? null : metadataCacheService.getCourse(assignment.getCourseCode());
+                hasPermission = course != null && ((Professor) user).getProfessorId().equals(course.getProfessorId());
             }
 
             if (!hasPermission) {
@@ -181,6 +328,11 @@ public class StudentApiController {
 
             Resource resource = new FileSystemResource(file);
 
+            // 저장된 파일 정보(제출 코드, 크기, 수정 시각)로 강한 ETag 생성
+            // 응답 처리 시 Spring이 If-None-Match/If-Modified-Since(304)와 Range(206, 다중 구간) 요청을 처리
+            String eTag = "\"" + submissionCode + "-" + Long.toHexString(file.length())
+                    + "-" + Long.toHexString(file.lastModified()) + "\"";
+
             // 파일명 UTF-8 인코딩
             String encodedFileName = URLEncoder.encode(
                     submission.getOriginalFileName() != null ? submission.getOriginalFileName() : submission.getFileName(),
@@ -189,9 +341,10 @@ public class StudentApiController {
 
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                    .header(HttpHeaders.CONTENT_TYPE, submission.getFileContentType() != null ?
-                            submission.getFileContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(file.length()))
+                    .contentType(resolveContentType(submission.getFileContentType()))
+                    .eTag(eTag)
+                    .lastModified(file.lastModified())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
                     .body(resource);
 
         } catch (Exception e) {
@@ -201,6 +354,18 @@ public class StudentApiController {
         }
     }
 
+    // 저장된 MIME 타입이 없거나 잘못된 경우 octet-stream 사용
+    private MediaType resolveContentType(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (Exception e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
     // 과제 제출 메서드 수정
     @PostMapping("/submission")
     public ResponseEntity<?> submitAssignment(@RequestBody Map<String, Object> request, HttpSession session) {
@@ -237,7 +402,10 @@ public class StudentApiController {
                 return ResponseEntity.badRequest().body(createErrorResponse("내용이 너무 깁니다. (최대 10,000자)"));
             }
 
-            Submission submission = studentService.submitAssignment(assignmentCode, studentId, content);
+            Submission submission;
+            try (SubmissionAdmissionService.Ticket ticket = admissionService.admit(assignmentCode)) {
+                submission = studentService.submitAssignment(assignmentCode, studentId, content);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -246,6 +414,8 @@ public class StudentApiController {
             response.put("submissionCode", submission.getSubmissionCode());
 
             return ResponseEntity.ok(response);
+        } catch (SubmissionAdmissionService.RejectedException e) {
+            return tooManyRequests(e);
         } catch (IllegalArgumentException e) {
             // XSS 검증 실패 시
             return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
@@ -256,29 +426,19 @@ public class StudentApiController {
 
     // 제출물 수정 (파일 포함)
     @PostMapping("/submission/update")
-    public ResponseEntity<?> updateSubmissionWithFile(
-            @RequestParam("submissionCode") int submissionCode,
-            @RequestParam("content") String content,
-            @RequestParam(value = "file", required = false) MultipartFile file,
-            HttpSession session) {
+    public ResponseEntity<?> updateSubmissionWithFile(HttpServletRequest request, HttpSession session) {
         try {
             String studentId = (String) session.getAttribute("userId");
             if (studentId == null) {
                 return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
             }
 
-            if (content.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(createErrorResponse("수정할 내용을 입력해주세요."));
-            }
-
             // 파일이 있으면 파일과 함께 수정, 없으면 텍스트만 수정
-            if (file != null && !file.isEmpty()) {
-                studentService.updateSubmissionWithFile(submissionCode, content, file);
-            } else {
-                studentService.updateSubmission(submissionCode, content);
-            }
+            submissionUploadService.update(request, studentId);
 
             return ResponseEntity.ok(createSuccessResponse("과제가 성공적으로 수정되었습니다."));
+        } catch (SubmissionAdmissionService.RejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
         }
@@ -397,9 +557,12 @@ public class StudentApiController {
         }
     }
 
-    // 학생의 모든 제출물 조회 - DTO 사용
+    // 학생의 제출물 조회 (최근 제출 순 커서 페이지) - 목록용 요약 DTO 사용 (본문/피드백은 미리보기)
+    // 첫 페이지(cursor 없음)에는 전체 기준 제출 통계(summary)를 함께 반환
     @GetMapping("/submissions")
-    public ResponseEntity<?> getStudentSubmissions(HttpSession session) {
+    public ResponseEntity<?> getStudentSubmissions(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   HttpSession session) {
         try {
             String studentId = (String) session.getAttribute("userId");
             System.out.println("DEBUG: Getting submissions for studentId: " + studentId);
@@ -409,10 +572,14 @@ public class StudentApiController {
                 return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
             }
 
-            List<SubmissionDTO> submissions = studentService.getStudentSubmissionsDTO(studentId);
-            System.out.println("DEBUG: Retrieved " + submissions.size() + " submissions");
+            CursorPage<SubmissionSummaryDTO> page = studentService.getStudentSubmissionsPage(studentId, cursor, size);
+            System.out.println("DEBUG: Retrieved " + page.getItems().size() + " submissions");
 
-            return ResponseEntity.ok(submissions);
+            Map<String, Object> response = createPageResponse(page);
+            if (cursor == null || cursor.isBlank()) {
+                response.put("summary", studentService.getSubmissionSummary(studentId));
+            }
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             System.err.println("DEBUG: Error in getStudentSubmissions: " + e.getMessage());
             e.printStackTrace();
@@ -420,9 +587,11 @@ public class StudentApiController {
         }
     }
 
-    // 학생의 모든 질문 조회
+    // 학생의 질문 조회 (최근 질문 순 커서 페이지)
     @GetMapping("/questions")
-    public ResponseEntity<?> getStudentQuestions(HttpSession session) {
+    public ResponseEntity<?> getStudentQuestions(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size,
+                                                 HttpSession session) {
         try {
             String studentId = (String) session.getAttribute("userId");
             System.out.println("DEBUG: Getting questions for studentId: " + studentId);
@@ -431,10 +600,10 @@ public class StudentApiController {
                 return ResponseEntity.status(401).body(createErrorResponse("로그인이 필요합니다."));
             }
 
-            List<QuestionDTO> questions = studentService.getStudentQuestionsDTO(studentId);
-            System.out.println("DEBUG: Retrieved " + questions.size() + " questions");
+            CursorPage<QuestionDTO> page = studentService.getStudentQuestionsPage(studentId, cursor, size);
+            System.out.println("DEBUG: Retrieved " + page.getItems().size() + " questions");
 
-            return ResponseEntity.ok(questions);
+            return ResponseEntity.ok(createPageResponse(page));
         } catch (Exception e) {
             System.err.println("DEBUG: Error in getStudentQuestions: " + e.getMessage());
             e.printStackTrace();
@@ -463,6 +632,24 @@ public class StudentApiController {
         return response;
     }
 
+    // 제출 요청이 몰려 거절된 경우 429 + 재시도 안내
+    private ResponseEntity<?> tooManyRequests(SubmissionAdmissionService.RejectedException e) {
+        Map<String, Object> response = createErrorResponse(e.getMessage());
+        response.put("retryAfter", e.getRetryAfterSeconds());
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // 커서 페이지 응답 (items, nextCursor, hasNext)
+    private Map<String, Object> createPageResponse(CursorPage<?> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", page.getItems());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.isHasNext());
+        return response;
+    }
+
     private Map<String, Object> createErrorResponse(String message) {
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
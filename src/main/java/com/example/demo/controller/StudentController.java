@@ -1,6 +1,9 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.StudentDashboard;
+import com.example.demo.service.EnrollmentIndexService;
+import com.example.demo.service.StudentDashboardService;
 import com.example.demo.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -20,6 +23,12 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private StudentDashboardService studentDashboardService;
+
+    @Autowired
+    private EnrollmentIndexService enrollmentIndexService;
+
     // 학생 메인 페이지 (기존 /student-main을 여기로 이동)
     @GetMapping("/main")
     public String studentMain(Model model, HttpSession session) {
@@ -31,12 +40,9 @@ public class StudentController {
         // 세션에 userId 저장 (API에서 사용)
         session.setAttribute("userId", student.getStudentId());
 
-        // 학생의 수강 과목과 과제 정보 조회
+        // 학생의 수강 과목과 과제 정보 조회 (구역별로 동시에 조회, 늦은 구역은 빈 목록으로 표시)
         try {
-            List<Course> courses = studentService.getStudentCourses(student.getStudentId());
-//            List<Assignment> assignments = studentService.getStudentAssignments(student.getStudentId());
-            List<Assignment> assignments = studentService.getUnsubmittedAssignments(student.getStudentId());
-            List<Submission> submissions = studentService.getStudentSubmissions(student.getStudentId());
+            StudentDashboard dashboard = studentDashboardService.getDashboard(student);
 
             // 과제별 제출 상태 설정
 //            for (Assignment assignment : assignments) {
@@ -51,9 +57,10 @@ public class StudentController {
 //            }
 
             model.addAttribute("student", student);
-            model.addAttribute("courses", courses);
-            model.addAttribute("assignments", assignments);
-            model.addAttribute("submissions", submissions);
+            model.addAttribute("dashboard", dashboard);
+            model.addAttribute("courses", dashboard.getCourses());
+            model.addAttribute("assignments", dashboard.getAssignments());
+            model.addAttribute("submissions", dashboard.getSubmissions());
         } catch (Exception e) {
             model.addAttribute("error", "데이터를 불러오는데 실패했습니다.");
         }
@@ -76,9 +83,7 @@ public class StudentController {
             Assignment assignment = studentService.getAssignmentDetails(assignmentCode);
 
             // 학생이 이 과제에 접근할 권한이 있는지 확인
-            List<Course> studentCourses = studentService.getStudentCourses(student.getStudentId());
-            boolean hasAccess = studentCourses.stream()
-                    .anyMatch(course -> course.getCourseCode().equals(assignment.getCourseCode()));
+            boolean hasAccess = enrollmentIndexService.isEnrolled(student.getStudentId(), assignment.getCourseCode());
 
             if (!hasAccess) {
                 model.addAttribute("error", "접근 권한이 없는 과제입니다.");
@@ -155,13 +160,8 @@ public class StudentController {
             return "redirect:/";
         }
 
-        try {
-            List<Submission> submissions = studentService.getStudentSubmissions(student.getStudentId());
-            model.addAttribute("student", student);
-            model.addAttribute("submissions", submissions);
-        } catch (Exception e) {
-            model.addAttribute("error", "제출 현황을 불러오는데 실패했습니다.");
-        }
+        // 제출물 목록은 화면에서 /api/student/submissions 페이지 단위로 조회
+        model.addAttribute("student", student);
 
         return "student/student-submissions";
     }
@@ -178,6 +178,7 @@ public class StudentController {
             List<Question> questions = studentService.getStudentQuestions(student.getStudentId());
             model.addAttribute("student", student);
             model.addAttribute("questions", questions);
+            model.addAttribute("professorNames", studentService.getAnswerProfessorNames(questions));
         } catch (Exception e) {
             model.addAttribute("error", "질문 목록을 불러오는데 실패했습니다.");
         }
@@ -7,11 +7,19 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "assignment")
+@Table(name = "assignment", indexes = {
+        // 과제 목록 페이지 (최근 생성 순 커서 조회)
+        @Index(name = "idx_assignment_created", columnList = "created_date, assignment_code"),
+        @Index(name = "idx_assignment_course_created", columnList = "course_code, created_date, assignment_code")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // 2차 캐시
 @Data
 @Getter
 @Setter
@@ -21,6 +29,7 @@ import java.util.List;
 public class Assignment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "assignment_code")
     private int assignmentCode;
 
     @Column(name = "course_code")
@@ -31,6 +40,7 @@ public class Assignment {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(name = "created_date")
     private LocalDateTime createdDate;
     private LocalDateTime dueDate;
 
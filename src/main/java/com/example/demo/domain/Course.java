@@ -4,14 +4,22 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "course")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // 2차 캐시 (읽기 위주, 카운터/삭제 표시 변경 시 갱신)
 @Data
 @Setter
 @Getter
+@SQLRestriction("deleted = false")  // 삭제 표시된 강의는 모든 조회에서 제외 (실제 삭제는 CoursePurgeService)
 public class Course {
     @Id
     private String courseCode;  // 수업코드(PK)
@@ -22,6 +30,7 @@ public class Course {
 
     // 부교수 ID 리스트 (단순 문자열 컬렉션)
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
             name = "course_sub_professors",
             joinColumns = @JoinColumn(name = "course_code")
@@ -39,14 +48,20 @@ public class Course {
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL)
     private List<Enrollment> enrollments;
 
-    // 추가된 transient 필드들
-    @Transient
+    // 삭제 표시 (tombstone)
+    @Column(name = "deleted", nullable = false, columnDefinition = "boolean default false")
+    private boolean deleted = false;
+
+    private LocalDateTime deletedAt;
+
+    // 집계 카운터 (수강신청/과제/부교수 변경 시 같은 트랜잭션에서 갱신, 불일치는 CourseCounterReconciliationService가 보정)
+    @Column(name = "student_count", nullable = false, columnDefinition = "int default 0")
     private int studentCount;    // 수강생 수
 
-    @Transient
+    @Column(name = "assignment_count", nullable = false, columnDefinition = "int default 0")
     private int assignmentCount; // 과제 수
 
-    @Transient
+    @Column(name = "sub_professor_count", nullable = false, columnDefinition = "int default 0")
     private int subProfessorCount;  // 부교수 수
 
     public boolean hasSubProfessor(String professorId) {
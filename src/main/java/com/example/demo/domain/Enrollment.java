@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "enrollment")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // 2차 캐시 (수강 목록 조회 캐시용)
 @Data
 @Setter
 @Getter
@@ -0,0 +1,33 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "file_blob")
+@Data
+@Getter
+@Setter
+public class FileBlob {
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;            // SHA-256 (16진수)
+
+    @Column(name = "size")
+    private long size;              // 파일 크기
+
+    @Column(name = "storage_path")
+    private String storagePath;     // 저장 경로 (uploads/blobs/ab/cd/<hash>)
+
+    @Column(name = "ref_count", nullable = false, columnDefinition = "int default 0")
+    private int refCount;           // 이 파일을 참조하는 제출물 수
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt; // 마지막으로 참조가 해제된 시각 (GC 유예 기준)
+}
@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "question")
+@Table(name = "question", indexes = {
+        // 학생 질문 목록 / 과제별 질문함 페이지 (최근 질문 순 커서 조회)
+        @Index(name = "idx_question_student_time", columnList = "student_id, question_time, question_code"),
+        @Index(name = "idx_question_assignment_time", columnList = "assignment_code, question_time, question_code")
+})
 @Data
 @Setter
 @Getter
@@ -18,6 +22,7 @@ import java.util.List;
 public class Question {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "question_code")
     private int questionCode;
 
     @Column(name = "assignment_code")
@@ -29,6 +34,7 @@ public class Question {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(name = "question_time")
     private LocalDateTime questionTime;
 
     @ManyToOne(fetch = FetchType.LAZY)
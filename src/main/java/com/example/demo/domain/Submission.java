@@ -8,7 +8,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "submission")
+@Table(name = "submission", indexes = {
+        // 학생 제출물 목록 페이지 (최근 제출 순 커서 조회)
+        @Index(name = "idx_submission_student_time", columnList = "student_id, submission_time, submission_code")
+})
 @Data
 @Getter
 @Setter
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 public class Submission {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "submission_code")
     private int submissionCode;
 
     @Column(name = "assignment_code")
@@ -24,6 +28,7 @@ public class Submission {
     @Column(name = "student_id")
     private String studentId;
 
+    @Column(name = "submission_time")
     private LocalDateTime submissionTime;
 
     @Column(columnDefinition = "TEXT")
@@ -43,6 +48,9 @@ public class Submission {
     private Long fileSize;          // 파일 크기
     private String fileContentType; // 파일 MIME 타입
 
+    @Column(name = "file_hash", length = 64)
+    private String fileHash;        // 파일 저장소 해시 (null이면 이전 방식으로 저장된 파일)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignment_code", insertable = false, updatable = false)
     private Assignment assignment;
@@ -0,0 +1,39 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "upload_session")
+@Data
+@Getter
+@Setter
+public class UploadSession {
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String uploadId;          // 업로드 식별자 (UUID)
+
+    @Column(name = "student_id")
+    private String studentId;
+
+    @Column(name = "assignment_code")
+    private int assignmentCode;
+
+    @Column(name = "submission_code")
+    private Integer submissionCode;   // 기존 제출물 수정인 경우에만 설정
+
+    private String originalFileName;
+    private String fileContentType;
+
+    @Column(name = "total_size")
+    private long totalSize;           // 전체 파일 크기
+
+    @Column(name = "received_size")
+    private long receivedSize;        // 지금까지 받은 크기 (다음 청크 시작 위치)
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -34,4 +34,15 @@ public class AnswerDTO {
         }
     }
 
+    // 교수 이름을 따로 조회한 경우 (Professor 엔티티를 로드하지 않음)
+    public AnswerDTO(Answer answer, String professorName) {
+        this.answerCode = answer.getAnswerCode();
+        this.questionCode = answer.getQuestionCode();
+        this.professorId = answer.getProfessorId();
+        this.content = answer.getContent();
+        this.answerTime = answer.getAnswerTime();
+        this.createdDate = answer.getCreatedDate();
+        this.professorName = professorName;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과제 목록용 요약 (JPQL 생성자 표현식으로 조회, 과제 설명(TEXT)은 조회하지 않음)
+ * 과제 설명은 과제 상세/수정 화면에서 엔티티로 조회
+ */
+@Getter
+public class AssignmentSummaryDTO {
+    private final int assignmentCode;
+    private final String courseCode;
+    private final String title;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime dueDate;
+
+    // Course 정보 (삭제 표시된 강의면 null)
+    private final String courseName;
+    private final String professorName;
+
+    // 제출물/질문 집계 (교수 과제 목록에서만 조회)
+    private final long submissionCount;
+    private final long gradedCount;
+    private final long questionCount;
+
+    // 관리자 과제 목록 (담당 교수 이름 포함)
+    public AssignmentSummaryDTO(int assignmentCode, String courseCode, String title,
+                                LocalDateTime createdDate, LocalDateTime dueDate,
+                                String courseName, String professorName) {
+        this(assignmentCode, courseCode, title, createdDate, dueDate, courseName, professorName, 0, 0, 0);
+    }
+
+    // 교수 과제 목록 (제출 수, 채점 수, 질문 수 포함)
+    public AssignmentSummaryDTO(int assignmentCode, String courseCode, String title,
+                                LocalDateTime createdDate, LocalDateTime dueDate, String courseName,
+                                long submissionCount, long gradedCount, long questionCount) {
+        this(assignmentCode, courseCode, title, createdDate, dueDate, courseName, null,
+                submissionCount, gradedCount, questionCount);
+    }
+
+    private AssignmentSummaryDTO(int assignmentCode, String courseCode, String title,
+                                 LocalDateTime createdDate, LocalDateTime dueDate,
+                                 String courseName, String professorName,
+                                 long submissionCount, long gradedCount, long questionCount) {
+        this.assignmentCode = assignmentCode;
+        this.courseCode = courseCode;
+        this.title = title;
+        this.createdDate = createdDate;
+        this.dueDate = dueDate;
+        this.courseName = courseName;
+        this.professorName = professorName;
+        this.submissionCount = submissionCount;
+        this.gradedCount = gradedCount;
+        this.questionCount = questionCount;
+    }
+}
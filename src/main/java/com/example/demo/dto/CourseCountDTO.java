@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CourseCountDTO {
+    // 강의별 집계 결과 (GROUP BY 프로젝션)
+    private final String courseCode;
+    private final long count;
+
+    public CourseCountDTO(String courseCode, long count) {
+        this.courseCode = courseCode;
+        this.count = count;
+    }
+}
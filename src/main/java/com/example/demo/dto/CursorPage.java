@@ -0,0 +1,104 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 방식 목록 페이지
+ * 마지막 항목의 (정렬 시간, 기본키)를 커서로 넘겨서 다음 페이지를 "그 뒤부터" 조회 (OFFSET 없음)
+ *
+ * - 조회는 size + 1개를 가져와서 다음 페이지 존재 여부를 확인
+ * - 커서는 "시간|기본키"를 URL에 쓸 수 있는 Base64로 인코딩한 문자열 (시간이 없으면 비워둠)
+ */
+@Getter
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 페이지 생성
+     * @param fetched  size + 1개까지 조회한 목록
+     * @param cursorOf 항목 → 커서 (다음 페이지 시작 위치)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = List.copyOf(fetched.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    // 요청한 페이지 크기 (없으면 기본값, 1 ~ MAX_SIZE로 제한)
+    public static int limit(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // === 커서 인코딩 ===
+
+    public static String encode(LocalDateTime time, Object key) {
+        String raw = (time == null ? "" : time.toString()) + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 해석 (없으면 null = 첫 페이지)
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String time = raw.substring(0, separator);
+            return new Cursor(time.isEmpty() ? null : LocalDateTime.parse(time), raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    // 해석된 커서 (마지막으로 받은 항목의 정렬 시간과 기본키)
+    @Getter
+    public static class Cursor {
+        private final LocalDateTime time;
+        private final String key;
+
+        private Cursor(LocalDateTime time, String key) {
+            this.time = time;
+            this.key = key;
+        }
+
+        public int getIntKey() {
+            try {
+                return Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("잘못된 페이지 커서입니다.");
+            }
+        }
+    }
+}
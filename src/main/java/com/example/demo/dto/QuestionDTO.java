@@ -6,6 +6,7 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Setter
@@ -27,6 +28,11 @@ public class QuestionDTO {
     private List<AnswerDTO> answers;
 
     public QuestionDTO(Question question) {
+        this(question, null);
+    }
+
+    // professorNames: 교수 ID → 이름 (null이면 답변의 Professor 엔티티에서 이름을 읽음)
+    public QuestionDTO(Question question, Function<String, String> professorNames) {
         this.questionCode = question.getQuestionCode();
         this.assignmentCode = question.getAssignmentCode();
         this.studentId = question.getStudentId();
@@ -45,7 +51,9 @@ public class QuestionDTO {
         // Answers 설정 (null 체크)
         if (question.getAnswers() != null) {
             this.answers = question.getAnswers().stream()
-                    .map(AnswerDTO::new)
+                    .map(answer -> professorNames == null
+                            ? new AnswerDTO(answer)
+                            : new AnswerDTO(answer, professorNames.apply(answer.getProfessorId())))
                     .collect(Collectors.toList());
         }
     }
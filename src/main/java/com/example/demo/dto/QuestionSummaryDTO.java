@@ -0,0 +1,52 @@
+package com.example.demo.dto;
+
+import com.example.demo.util.XSSUtils;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문함 목록용 요약 (JPQL 생성자 표현식으로 조회)
+ * 질문 본문(TEXT)은 앞부분만 조회, 첫 답변은 작성 교수와 미리보기만 따로 채움
+ */
+@Getter
+public class QuestionSummaryDTO {
+    // 미리보기 최대 길이 (조회 쿼리는 잘림 여부를 알 수 있도록 한 글자 더 가져옴)
+    public static final int PREVIEW_LENGTH = 200;
+    public static final int ANSWER_PREVIEW_LENGTH = 100;
+
+    private final int questionCode;
+    private final int assignmentCode;
+    private final String studentId;
+    private final String studentName;
+    private final String contentPreview;
+    private final LocalDateTime questionTime;
+
+    // Assignment 정보
+    private final String assignmentTitle;
+    private final String courseName;
+
+    // 첫 답변 (답변이 없으면 null)
+    private String answerProfessorName;
+    private String answerPreview;
+    private boolean answered;
+
+    public QuestionSummaryDTO(int questionCode, int assignmentCode, String studentId, String studentName,
+                              String content, LocalDateTime questionTime, String assignmentTitle, String courseName) {
+        this.questionCode = questionCode;
+        this.assignmentCode = assignmentCode;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.contentPreview = XSSUtils.abbreviate(content, PREVIEW_LENGTH);
+        this.questionTime = questionTime;
+        this.assignmentTitle = assignmentTitle;
+        this.courseName = courseName;
+    }
+
+    // 첫 답변 설정 (답변 목록은 로드하지 않음)
+    public void setFirstAnswer(String professorName, String content) {
+        this.answered = true;
+        this.answerProfessorName = professorName;
+        this.answerPreview = XSSUtils.abbreviate(content, ANSWER_PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.dto;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.domain.Student;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Setter
+@Getter
+public class StudentDashboard {
+    public static final String COURSES = "courses";
+    public static final String ASSIGNMENTS = "assignments";
+    public static final String SUBMISSIONS = "submissions";
+    public static final Set<String> SECTIONS = Set.of(COURSES, ASSIGNMENTS, SUBMISSIONS);
+
+    private Student student;
+    private List<Course> courses = List.of();
+    private List<Assignment> assignments = List.of();     // 미제출 과제
+    private List<SubmissionSummaryDTO> submissions = List.of();  // 목록용 요약 (본문 전체는 보관하지 않음)
+
+    // 시간 초과나 오류로 불러오지 못한 구역 (빈 목록으로 표시)
+    private Set<String> unavailableSections = new LinkedHashSet<>();
+
+    public boolean isAvailable(String section) {
+        return !unavailableSections.contains(section);
+    }
+
+    public boolean isComplete() {
+        return unavailableSections.isEmpty();
+    }
+}
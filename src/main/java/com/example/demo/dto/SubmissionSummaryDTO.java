@@ -0,0 +1,54 @@
+package com.example.demo.dto;
+
+import com.example.demo.domain.Submission;
+import com.example.demo.util.XSSUtils;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출물 목록용 요약 (JPQL 생성자 표현식으로 조회)
+ * 본문/피드백(TEXT)은 앞부분만 조회해서 미리보기로 보관, 전체 내용은 제출물 상세 화면에서 조회
+ */
+@Getter
+public class SubmissionSummaryDTO {
+    // 미리보기 최대 길이 (조회 쿼리는 잘림 여부를 알 수 있도록 PREVIEW_LENGTH + 1 글자까지 가져옴)
+    public static final int PREVIEW_LENGTH = 200;
+
+    private final int submissionCode;
+    private final int assignmentCode;
+    private final String studentId;
+    private final String studentName;
+    private final Integer score;
+    private final LocalDateTime submissionTime;
+    private final LocalDateTime lastModifiedDate;
+    private final String contentPreview;
+    private final String feedbackPreview;
+
+    // Assignment 정보
+    private final String assignmentTitle;
+    private final String courseName;
+
+    public SubmissionSummaryDTO(int submissionCode, int assignmentCode, String studentId, String studentName,
+                                Integer score, LocalDateTime submissionTime, LocalDateTime lastModifiedDate,
+                                String content, String feedback, String assignmentTitle, String courseName) {
+        this.submissionCode = submissionCode;
+        this.assignmentCode = assignmentCode;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.score = score;
+        this.submissionTime = submissionTime;
+        this.lastModifiedDate = lastModifiedDate;
+        this.contentPreview = XSSUtils.abbreviate(content, PREVIEW_LENGTH);
+        this.feedbackPreview = XSSUtils.abbreviate(feedback, PREVIEW_LENGTH);
+        this.assignmentTitle = assignmentTitle;
+        this.courseName = courseName;
+    }
+
+    // 저장한 엔티티로 생성 (커밋 이후에도 쓰이므로 지연 로딩되는 학생/과제 정보는 읽지 않음)
+    public SubmissionSummaryDTO(Submission submission) {
+        this(submission.getSubmissionCode(), submission.getAssignmentCode(), submission.getStudentId(), null,
+                submission.getScore(), submission.getSubmissionTime(), submission.getLastModifiedDate(),
+                submission.getContent(), submission.getFeedback(), null, null);
+    }
+}
@@ -2,7 +2,11 @@ package com.example.demo.repository;
 
 import com.example.demo.domain.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +17,35 @@ public interface AnswerRepository extends JpaRepository<Answer, Integer> {
     List<Answer> findByProfessorId(String professorId);
 
     List<Answer> findByQuestionCodeOrderByAnswerTimeAsc(int questionCode);
-}
\ No newline at end of file
+
+    // 여러 질문의 답변만 한 번에 조회 (IN 절, 교수 이름은 ProfessorDirectoryService에서 조회)
+    List<Answer> findByQuestionCodeInOrderByAnswerTimeAsc(Collection<Integer> questionCodes);
+
+    // 여러 질문의 답변을 답변 교수 정보와 함께 한 번에 조회 (IN 절)
+    @Query("""
+    SELECT a FROM Answer a
+    LEFT JOIN FETCH a.professor
+    WHERE a.questionCode IN :questionCodes
+    ORDER BY a.answerTime ASC
+""")
+    List<Answer> findByQuestionCodeInWithProfessor(@Param("questionCodes") Collection<Integer> questionCodes);
+
+    // 여러 질문의 답변 미리보기 (질문 코드, 답변 교수 ID, 답변 앞부분 101자), 답변 시간 오름차순
+    @Query("""
+    SELECT a.questionCode, a.professorId, SUBSTRING(a.content, 1, 101)
+    FROM Answer a
+    WHERE a.questionCode IN :questionCodes
+    ORDER BY a.answerTime ASC
+""")
+    List<Object[]> findPreviewsByQuestionCodeIn(@Param("questionCodes") Collection<Integer> questionCodes);
+
+    // 과제 목록에 속한 모든 질문의 답변 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    DELETE FROM Answer a
+    WHERE a.questionCode IN (
+        SELECT q.questionCode FROM Question q WHERE q.assignmentCode IN :assignmentCodes
+    )
+""")
+    int deleteByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+}
@@ -1,21 +1,45 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Assignment;
+import com.example.demo.dto.AssignmentSummaryDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, Integer> {
 
+    // 쿼리 캐시 (assignment 테이블 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Assignment> findByCourseCode(String courseCode);
 
     @Query("SELECT a FROM Assignment a WHERE a.courseCode IN " +
-            "(SELECT e.courseCode FROM Enrollment e WHERE e.studentId = :studentId)")
+            "(SELECT e.courseCode FROM Enrollment e WHERE e.studentId = :studentId) " +
+            "AND a.courseCode IN (SELECT c.courseCode FROM Course c WHERE c.deleted = false)")
     List<Assignment> findByStudentId(@Param("studentId") String studentId);
 
+    // 학생이 아직 제출하지 않은 과제 + 강의 (한 번의 쿼리)
+    @Query("""
+    SELECT a FROM Assignment a
+    LEFT JOIN FETCH a.course
+    WHERE a.courseCode IN (SELECT e.courseCode FROM Enrollment e WHERE e.studentId = :studentId)
+      AND a.courseCode IN (SELECT c.courseCode FROM Course c WHERE c.deleted = false)
+      AND NOT EXISTS (
+          SELECT s FROM Submission s
+          WHERE s.assignmentCode = a.assignmentCode AND s.studentId = :studentId
+      )
+""")
+    List<Assignment> findUnsubmittedByStudentId(@Param("studentId") String studentId);
+
     @Query("SELECT a FROM Assignment a WHERE a.courseCode IN " +
             "(SELECT c.courseCode FROM Course c WHERE c.professorId = :professorId)")
     List<Assignment> findByProfessorId(@Param("professorId") String professorId);
@@ -31,4 +55,66 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Integer>
     )
 """)
     List<Assignment> findByProfessorIdOrSubProfessorsId(@Param("professorId") String professorId);
-}
\ No newline at end of file
+
+    // === 과제 목록 페이지 (AssignmentSummaryDTO, 최근 생성 순, 커서 이후부터, 과제 설명은 조회하지 않음) ===
+    // afterCode가 null이면 첫 페이지
+    // 생성일이 없는 이전 과제는 MySQL의 내림차순 정렬대로 맨 뒤에 오므로, 커서의 생성일이 null이면 그 안에서만 이어서 조회
+
+    // 교수 과제 목록 (제출 수, 채점 수, 질문 수는 과제별 COUNT 서브쿼리)
+    @Query("""
+    SELECT new com.example.demo.dto.AssignmentSummaryDTO(
+        a.assignmentCode, a.courseCode, a.title, a.createdDate, a.dueDate, c.courseName,
+        (SELECT COUNT(s) FROM Submission s WHERE s.assignmentCode = a.assignmentCode),
+        (SELECT COUNT(s.score) FROM Submission s WHERE s.assignmentCode = a.assignmentCode),
+        (SELECT COUNT(q) FROM Question q WHERE q.assignmentCode = a.assignmentCode))
+    FROM Assignment a
+    LEFT JOIN a.course c
+    WHERE a.courseCode IN (
+        SELECT co.courseCode
+        FROM Course co
+        WHERE co.professorId = :professorId
+           OR :professorId MEMBER OF co.subProfessors
+    )
+    AND (:afterCode IS NULL
+         OR (:afterTime IS NULL AND a.createdDate IS NULL AND a.assignmentCode < :afterCode)
+         OR (:afterTime IS NOT NULL AND (a.createdDate < :afterTime
+                                         OR (a.createdDate = :afterTime AND a.assignmentCode < :afterCode)
+                                         OR a.createdDate IS NULL)))
+    ORDER BY a.createdDate DESC, a.assignmentCode DESC
+""")
+    List<AssignmentSummaryDTO> findSummaryPageByProfessorId(@Param("professorId") String professorId,
+                                                            @Param("afterTime") LocalDateTime afterTime,
+                                                            @Param("afterCode") Integer afterCode,
+                                                            Pageable pageable);
+
+    // 전체 과제 (관리자 화면, 담당 교수 이름 포함, 삭제 표시된 강의의 과제 제외), (created_date, assignment_code) 인덱스 범위 조회
+    @Query("""
+    SELECT new com.example.demo.dto.AssignmentSummaryDTO(
+        a.assignmentCode, a.courseCode, a.title, a.createdDate, a.dueDate, c.courseName, p.name)
+    FROM Assignment a
+    LEFT JOIN a.course c
+    LEFT JOIN c.professor p
+    WHERE a.courseCode IN (SELECT cc.courseCode FROM Course cc WHERE cc.deleted = false)
+      AND (:afterCode IS NULL
+           OR (:afterTime IS NULL AND a.createdDate IS NULL AND a.assignmentCode < :afterCode)
+           OR (:afterTime IS NOT NULL AND (a.createdDate < :afterTime
+                                           OR (a.createdDate = :afterTime AND a.assignmentCode < :afterCode)
+                                           OR a.createdDate IS NULL)))
+    ORDER BY a.createdDate DESC, a.assignmentCode DESC
+""")
+    List<AssignmentSummaryDTO> findSummaryPage(@Param("afterTime") LocalDateTime afterTime,
+                                               @Param("afterCode") Integer afterCode,
+                                               Pageable pageable);
+
+    // 강의에 속한 과제 코드만 조회 (엔티티 로드 없이)
+    @Query("SELECT a.assignmentCode FROM Assignment a WHERE a.courseCode = :courseCode")
+    List<Integer> findAssignmentCodesByCourseCode(@Param("courseCode") String courseCode);
+
+    // 강의에 속한 과제 코드를 최대 batchSize개만 조회 (일괄 정리용)
+    @Query(value = "SELECT assignment_code FROM assignment WHERE course_code = :courseCode LIMIT :batchSize", nativeQuery = true)
+    List<Integer> findAssignmentCodesByCourseCode(@Param("courseCode") String courseCode, @Param("batchSize") int batchSize);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Assignment a WHERE a.assignmentCode IN :assignmentCodes")
+    int deleteByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+}
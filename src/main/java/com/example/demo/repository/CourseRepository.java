@@ -3,16 +3,29 @@ package com.example.demo.repository;
 import com.example.demo.domain.Course;
 import com.example.demo.domain.Professor;
 import com.example.demo.domain.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, String> {
 
+    // 쿼리 캐시 (course 테이블 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Course findByCourseCode(String courseCode);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Course> findAllById(Iterable<String> courseCodes);
     boolean existsByCourseCode(String courseCode);
 
     List<Course> findByProfessorId(String professorId);
@@ -22,11 +35,82 @@ public interface CourseRepository extends JpaRepository<Course, String> {
     FROM course c
     LEFT JOIN course_sub_professors sp 
         ON c.course_code = sp.course_code
-    WHERE c.professor_id = :professorId 
-       OR sp.professor_id = :professorId
+    WHERE (c.professor_id = :professorId 
+       OR sp.professor_id = :professorId)
+      AND c.deleted = false
     """, nativeQuery = true)
     List<Course> findByProfessorOrSubProfessor(@Param("professorId") String professorId);
 
     @Query("SELECT c FROM Course c JOIN c.enrollments e WHERE e.studentId = :studentId")
     List<Course> findByStudentId(@Param("studentId") String studentId);
-}
\ No newline at end of file
+
+    // 강의 목록 페이지 (관리자 화면, 강의 코드 순, 커서 이후부터) + 메인 교수
+    // 강의에는 생성일이 없으므로 기본키 순서로 조회, afterCode가 null이면 첫 페이지
+    @Query("""
+    SELECT c FROM Course c
+    LEFT JOIN FETCH c.professor
+    WHERE (:afterCode IS NULL OR c.courseCode > :afterCode)
+    ORDER BY c.courseCode
+""")
+    List<Course> findPage(@Param("afterCode") String afterCode, Pageable pageable);
+
+    // === 집계 카운터 갱신 (DB에서 원자적으로 증감) ===
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.studentCount = c.studentCount + :delta WHERE c.courseCode = :courseCode")
+    int adjustStudentCount(@Param("courseCode") String courseCode, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.assignmentCount = c.assignmentCount + :delta WHERE c.courseCode = :courseCode")
+    int adjustAssignmentCount(@Param("courseCode") String courseCode, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.subProfessorCount = c.subProfessorCount + :delta WHERE c.courseCode = :courseCode")
+    int adjustSubProfessorCount(@Param("courseCode") String courseCode, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE Course c
+    SET c.studentCount = :studentCount,
+        c.assignmentCount = :assignmentCount,
+        c.subProfessorCount = :subProfessorCount
+    WHERE c.courseCode = :courseCode
+""")
+    int updateCounters(@Param("courseCode") String courseCode,
+                       @Param("studentCount") int studentCount,
+                       @Param("assignmentCount") int assignmentCount,
+                       @Param("subProfessorCount") int subProfessorCount);
+
+    // === 강의 일괄 삭제 ===
+
+    // 부교수 목록은 @ElementCollection 테이블이라 JPQL 대상이 아니므로 native 쿼리 사용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM course_sub_professors WHERE course_code = :courseCode", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_sub_professors"))
+    int deleteSubProfessorsByCourseCode(@Param("courseCode") String courseCode);
+
+    // 삭제 표시된 강의도 지울 수 있도록 native 쿼리 사용 (@SQLRestriction 미적용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM course WHERE course_code = :courseCode", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course"))
+    int deleteByCourseCodeBulk(@Param("courseCode") String courseCode);
+
+    // === 삭제 표시 (tombstone) ===
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.deleted = true, c.deletedAt = :deletedAt WHERE c.courseCode = :courseCode")
+    int markDeleted(@Param("courseCode") String courseCode, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 정리 대기 중인 강의 (native 쿼리라 @SQLRestriction이 적용되지 않음)
+    @Query(value = "SELECT * FROM course WHERE deleted = true ORDER BY deleted_at", nativeQuery = true)
+    List<Course> findDeletedCourses();
+
+    // 삭제 표시되어 정리 대기 중인 강의인지 확인 (행이 남아 있는 동안 같은 강의 코드로 새로 만들 수 없음)
+    @Query(value = "SELECT COUNT(*) FROM course WHERE course_code = :courseCode AND deleted = true", nativeQuery = true)
+    long countDeletedByCourseCode(@Param("courseCode") String courseCode);
+}
@@ -2,18 +2,41 @@ package com.example.demo.repository;
 
 import com.example.demo.domain.Enrollment;
 import com.example.demo.domain.EnrollmentId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
 
+    // 쿼리 캐시 (enrollment 테이블 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Enrollment> findByStudentId(String studentId);
 
     List<Enrollment> findByCourseCode(String courseCode);
 
     boolean existsByStudentIdAndCourseCode(String studentId, String courseCode);
 
+    // 전체 (학번, 수업코드) 쌍 (수강 관계 인덱스 적재용, 엔티티를 만들지 않음, 삭제 표시된 강의 제외)
+    @Query("SELECT e.studentId, e.courseCode FROM Enrollment e JOIN Course c ON c.courseCode = e.courseCode AND c.deleted = false")
+    List<Object[]> findAllStudentCoursePairs();
+
     void deleteByStudentIdAndCourseCode(String studentId, String courseCode);
-}
\ No newline at end of file
+
+    // 강의의 수강신청 정보 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Enrollment e WHERE e.courseCode = :courseCode")
+    int deleteAllByCourseCode(@Param("courseCode") String courseCode);
+
+    // 강의의 수강신청 정보를 최대 batchSize건씩 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM enrollment WHERE course_code = :courseCode LIMIT :batchSize", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "enrollment"))
+    int deleteByCourseCodeLimit(@Param("courseCode") String courseCode, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,59 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.FileBlob;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    // 블롭 등록 (별도 트랜잭션, 참조 수 0으로 시작)
+    // 이미 있으면 참조가 없는 경우에만 해제 시각을 갱신해 GC 유예 기간을 다시 시작
+    // 제출 트랜잭션이 롤백되어도 행이 남으므로 파일은 GC가 정리
+    // native 쿼리는 영향받는 테이블을 지정하지 않으면 2차 캐시 전체가 무효화되므로 file_blob으로 한정
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+    INSERT INTO file_blob (hash, size, storage_path, ref_count, created_at, released_at)
+    VALUES (:hash, :size, :storagePath, 0, :now, :now)
+    ON DUPLICATE KEY UPDATE released_at = IF(ref_count = 0, VALUES(released_at), released_at)
+""", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "file_blob"))
+    int register(@Param("hash") String hash,
+                 @Param("size") long size,
+                 @Param("storagePath") String storagePath,
+                 @Param("now") LocalDateTime now);
+
+    // 참조 수 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1 WHERE b.hash = :hash")
+    int acquire(@Param("hash") String hash);
+
+    // 참조 수 감소
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE FileBlob b SET b.refCount = b.refCount - :count, b.releasedAt = :now
+    WHERE b.hash = :hash AND b.refCount >= :count
+""")
+    int release(@Param("hash") String hash, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    // 유예 기간이 지난 미참조 블롭
+    @Query("SELECT b FROM FileBlob b WHERE b.refCount = 0 AND b.releasedAt < :cutoff")
+    List<FileBlob> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 여전히 미참조 상태일 때만 삭제 (동시에 다시 참조된 블롭은 건드리지 않음)
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.releasedAt < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,17 +1,30 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Professor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ProfessorRepository extends JpaRepository<Professor, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Professor findByProfessorId(String professorId);
     boolean existsByProfessorId(String professorId);
 //    Professor findByProfessorIdAndPassword(String professorId, String password);
 
     // 승인 관련 메서드 추가
     List<Professor> findByAllowed(boolean allowed);
+
+    // 교수 ID, 이름만 조회 (비밀번호 등 나머지 컬럼은 읽지 않음)
+    @Query("SELECT p.professorId, p.name FROM Professor p")
+    List<Object[]> findAllIdAndName();
+
+    @Query("SELECT p.name FROM Professor p WHERE p.professorId = :professorId")
+    String findNameByProfessorId(@Param("professorId") String professorId);
 }
\ No newline at end of file
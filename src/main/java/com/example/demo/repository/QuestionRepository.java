@@ -1,8 +1,15 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Question;
+import com.example.demo.dto.QuestionSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +20,156 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
 
     List<Question> findByStudentId(String studentId);
 
+    // 학생의 질문 + 과제 + 강의를 한 번의 조인 쿼리로 조회
+    @Query("""
+    SELECT q FROM Question q
+    LEFT JOIN FETCH q.assignment a
+    LEFT JOIN FETCH a.course
+    WHERE q.studentId = :studentId
+""")
+    List<Question> findByStudentIdWithAssignmentAndCourse(@Param("studentId") String studentId);
+
+    // 학생의 질문 페이지 (최근 질문 순, 커서 이후부터) + 과제 + 강의
+    // afterTime이 null이면 첫 페이지, (student_id, question_time, question_code) 인덱스 범위 조회
+    @Query("""
+    SELECT q FROM Question q
+    LEFT JOIN FETCH q.assignment a
+    LEFT JOIN FETCH a.course
+    WHERE q.studentId = :studentId
+      AND (:afterTime IS NULL
+           OR q.questionTime < :afterTime
+           OR (q.questionTime = :afterTime AND q.questionCode < :afterCode))
+    ORDER BY q.questionTime DESC, q.questionCode DESC
+""")
+    List<Question> findPageByStudentId(@Param("studentId") String studentId,
+                                       @Param("afterTime") LocalDateTime afterTime,
+                                       @Param("afterCode") int afterCode,
+                                       Pageable pageable);
+
     Optional<Question> findByQuestionCode(int questionCode);
 
     List<Question> findByAssignmentCodeAndStudentId(int assignmentCode, String studentId);
-}
\ No newline at end of file
+
+    // === 교수 질문함 조회 (과제/강의/질문 학생 정보를 조인으로 함께 로드) ===
+    // unansweredOnly = true 이면 답변이 없는 질문만 DB에서 걸러서 조회
+
+    @Query("""
+    SELECT q FROM Question q
+    JOIN FETCH q.assignment a
+    JOIN FETCH a.course
+    LEFT JOIN FETCH q.student
+    WHERE a.courseCode IN (
+        SELECT c.courseCode
+        FROM Course c
+        WHERE c.professorId = :professorId
+           OR :professorId MEMBER OF c.subProfessors
+    )
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+""")
+    List<Question> findInboxByProfessorId(@Param("professorId") String professorId,
+                                          @Param("unansweredOnly") boolean unansweredOnly);
+
+    @Query("""
+    SELECT q FROM Question q
+    JOIN FETCH q.assignment a
+    JOIN FETCH a.course
+    LEFT JOIN FETCH q.student
+    WHERE a.courseCode = :courseCode
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+""")
+    List<Question> findInboxByCourseCode(@Param("courseCode") String courseCode,
+                                         @Param("unansweredOnly") boolean unansweredOnly);
+
+    @Query("""
+    SELECT q FROM Question q
+    JOIN FETCH q.assignment a
+    JOIN FETCH a.course
+    LEFT JOIN FETCH q.student
+    WHERE q.assignmentCode = :assignmentCode
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+""")
+    List<Question> findInboxByAssignmentCode(@Param("assignmentCode") int assignmentCode,
+                                             @Param("unansweredOnly") boolean unansweredOnly);
+
+    // === 교수 질문함 목록 페이지 (QuestionSummaryDTO, 질문 본문은 미리보기 길이 + 1 글자까지만 조회) ===
+    // 최근 질문 순, afterTime이 null이면 첫 페이지
+
+    @Query("""
+    SELECT new com.example.demo.dto.QuestionSummaryDTO(
+        q.questionCode, q.assignmentCode, q.studentId, st.name, SUBSTRING(q.content, 1, 201), q.questionTime,
+        a.title, c.courseName)
+    FROM Question q
+    JOIN q.assignment a
+    JOIN a.course c
+    LEFT JOIN q.student st
+    WHERE a.courseCode IN (
+        SELECT co.courseCode
+        FROM Course co
+        WHERE co.professorId = :professorId
+           OR :professorId MEMBER OF co.subProfessors
+    )
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+    AND (:afterTime IS NULL
+         OR q.questionTime < :afterTime
+         OR (q.questionTime = :afterTime AND q.questionCode < :afterCode))
+    ORDER BY q.questionTime DESC, q.questionCode DESC
+""")
+    List<QuestionSummaryDTO> findInboxPageByProfessorId(@Param("professorId") String professorId,
+                                                        @Param("unansweredOnly") boolean unansweredOnly,
+                                                        @Param("afterTime") LocalDateTime afterTime,
+                                                        @Param("afterCode") int afterCode,
+                                                        Pageable pageable);
+
+    @Query("""
+    SELECT new com.example.demo.dto.QuestionSummaryDTO(
+        q.questionCode, q.assignmentCode, q.studentId, st.name, SUBSTRING(q.content, 1, 201), q.questionTime,
+        a.title, c.courseName)
+    FROM Question q
+    JOIN q.assignment a
+    JOIN a.course c
+    LEFT JOIN q.student st
+    WHERE a.courseCode = :courseCode
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+    AND (:afterTime IS NULL
+         OR q.questionTime < :afterTime
+         OR (q.questionTime = :afterTime AND q.questionCode < :afterCode))
+    ORDER BY q.questionTime DESC, q.questionCode DESC
+""")
+    List<QuestionSummaryDTO> findInboxPageByCourseCode(@Param("courseCode") String courseCode,
+                                                       @Param("unansweredOnly") boolean unansweredOnly,
+                                                       @Param("afterTime") LocalDateTime afterTime,
+                                                       @Param("afterCode") int afterCode,
+                                                       Pageable pageable);
+
+    @Query("""
+    SELECT new com.example.demo.dto.QuestionSummaryDTO(
+        q.questionCode, q.assignmentCode, q.studentId, st.name, SUBSTRING(q.content, 1, 201), q.questionTime,
+        a.title, c.courseName)
+    FROM Question q
+    JOIN q.assignment a
+    JOIN a.course c
+    LEFT JOIN q.student st
+    WHERE q.assignmentCode = :assignmentCode
+    AND (:unansweredOnly = false
+         OR NOT EXISTS (SELECT an FROM Answer an WHERE an.questionCode = q.questionCode))
+    AND (:afterTime IS NULL
+         OR q.questionTime < :afterTime
+         OR (q.questionTime = :afterTime AND q.questionCode < :afterCode))
+    ORDER BY q.questionTime DESC, q.questionCode DESC
+""")
+    List<QuestionSummaryDTO> findInboxPageByAssignmentCode(@Param("assignmentCode") int assignmentCode,
+                                                           @Param("unansweredOnly") boolean unansweredOnly,
+                                                           @Param("afterTime") LocalDateTime afterTime,
+                                                           @Param("afterCode") int afterCode,
+                                                           Pageable pageable);
+
+    // 과제 목록에 속한 질문 일괄 삭제 (답변을 먼저 삭제해야 함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Question q WHERE q.assignmentCode IN :assignmentCodes")
+    int deleteByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+}
@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.Course;
+import com.example.demo.dto.CourseCountDTO;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 관리자 통계용 집계 쿼리 모음
+ * 엔티티를 로드하지 않고 COUNT / GROUP BY 결과만 조회
+ */
+@Repository
+public interface StatisticsRepository extends org.springframework.data.repository.Repository<Course, String> {
+
+    // === 사용자 통계 ===
+
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.allowed = :allowed")
+    long countStudentsByAllowed(@Param("allowed") boolean allowed);
+
+    @Query("SELECT COUNT(p) FROM Professor p WHERE p.allowed = :allowed")
+    long countProfessorsByAllowed(@Param("allowed") boolean allowed);
+
+    // === 강의 / 과제 통계 ===
+    // 과제/수강신청 집계는 삭제 표시된 강의를 제외 (Course는 @SQLRestriction으로 제외)
+
+    @Query("SELECT COUNT(c) FROM Course c")
+    long countCourses();
+
+    @Query("SELECT COUNT(a) FROM Assignment a JOIN Course c ON c.courseCode = a.courseCode AND c.deleted = false")
+    long countAssignments();
+
+    // 강의별 수강생 수
+    @Query("SELECT new com.example.demo.dto.CourseCountDTO(e.courseCode, COUNT(e)) FROM Enrollment e JOIN Course c ON c.courseCode = e.courseCode AND c.deleted = false GROUP BY e.courseCode")
+    List<CourseCountDTO> countEnrollmentsGroupByCourse();
+
+    // 강의별 과제 수
+    @Query("SELECT new com.example.demo.dto.CourseCountDTO(a.courseCode, COUNT(a)) FROM Assignment a JOIN Course c ON c.courseCode = a.courseCode AND c.deleted = false GROUP BY a.courseCode")
+    List<CourseCountDTO> countAssignmentsGroupByCourse();
+
+    // 강의별 부교수 수
+    @Query("SELECT new com.example.demo.dto.CourseCountDTO(c.courseCode, COUNT(sp)) FROM Course c JOIN c.subProfessors sp GROUP BY c.courseCode")
+    List<CourseCountDTO> countSubProfessorsGroupByCourse();
+
+    // 강의 하나의 집계 (삭제 표시된 강의의 정리 진행 상황에도 사용하므로 강의 상태와 관계없이 집계)
+    @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.courseCode = :courseCode")
+    long countEnrollmentsByCourseCode(@Param("courseCode") String courseCode);
+
+    @Query("SELECT COUNT(a) FROM Assignment a WHERE a.courseCode = :courseCode")
+    long countAssignmentsByCourseCode(@Param("courseCode") String courseCode);
+
+    // === 과제별 통계 ===
+
+    @Query("SELECT COUNT(s) FROM Submission s WHERE s.assignmentCode = :assignmentCode")
+    long countSubmissionsByAssignmentCode(@Param("assignmentCode") int assignmentCode);
+
+    @Query("SELECT COUNT(q) FROM Question q WHERE q.assignmentCode = :assignmentCode")
+    long countQuestionsByAssignmentCode(@Param("assignmentCode") int assignmentCode);
+}
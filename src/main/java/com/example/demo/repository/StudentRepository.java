@@ -1,13 +1,18 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, String> {
 
+    // 쿼리 캐시 (결과는 2차 캐시의 Student를 참조, student 테이블 변경 시 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Student findByStudentId(String studentId);
     boolean existsByStudentId(String studentId);
 //    Student findByStudentIdAndPassword(String studentId, String password);
@@ -1,8 +1,15 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Submission;
+import com.example.demo.dto.SubmissionSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +20,90 @@ public interface SubmissionRepository extends JpaRepository<Submission, Integer>
 
     List<Submission> findByStudentId(String studentId);
 
+    // === 제출물 목록 (SubmissionSummaryDTO, 본문/피드백은 미리보기 길이 + 1 글자까지만 조회) ===
+    // 학생/과제/강의 정보는 조인으로 함께 조회 (제출물 수와 무관하게 쿼리 1회)
+
+    // 학생의 전체 제출물 (대시보드)
+    @Query("""
+    SELECT new com.example.demo.dto.SubmissionSummaryDTO(
+        s.submissionCode, s.assignmentCode, s.studentId, st.name, s.score, s.submissionTime, s.lastModifiedDate,
+        SUBSTRING(s.content, 1, 201), SUBSTRING(s.feedback, 1, 201), a.title, c.courseName)
+    FROM Submission s
+    LEFT JOIN s.student st
+    LEFT JOIN s.assignment a
+    LEFT JOIN a.course c
+    WHERE s.studentId = :studentId
+""")
+    List<SubmissionSummaryDTO> findSummariesByStudentId(@Param("studentId") String studentId);
+
+    // 학생의 제출물 페이지 (최근 제출 순, 커서 이후부터)
+    // afterTime이 null이면 첫 페이지, (student_id, submission_time, submission_code) 인덱스 범위 조회
+    @Query("""
+    SELECT new com.example.demo.dto.SubmissionSummaryDTO(
+        s.submissionCode, s.assignmentCode, s.studentId, st.name, s.score, s.submissionTime, s.lastModifiedDate,
+        SUBSTRING(s.content, 1, 201), SUBSTRING(s.feedback, 1, 201), a.title, c.courseName)
+    FROM Submission s
+    LEFT JOIN s.student st
+    LEFT JOIN s.assignment a
+    LEFT JOIN a.course c
+    WHERE s.studentId = :studentId
+      AND (:afterTime IS NULL
+           OR s.submissionTime < :afterTime
+           OR (s.submissionTime = :afterTime AND s.submissionCode < :afterCode))
+    ORDER BY s.submissionTime DESC, s.submissionCode DESC
+""")
+    List<SubmissionSummaryDTO> findSummaryPageByStudentId(@Param("studentId") String studentId,
+                                                          @Param("afterTime") LocalDateTime afterTime,
+                                                          @Param("afterCode") int afterCode,
+                                                          Pageable pageable);
+
+    // 과제의 제출물 (교수 제출물 목록, 관리자 과제 상세)
+    @Query("""
+    SELECT new com.example.demo.dto.SubmissionSummaryDTO(
+        s.submissionCode, s.assignmentCode, s.studentId, st.name, s.score, s.submissionTime, s.lastModifiedDate,
+        SUBSTRING(s.content, 1, 201), SUBSTRING(s.feedback, 1, 201), a.title, c.courseName)
+    FROM Submission s
+    LEFT JOIN s.student st
+    LEFT JOIN s.assignment a
+    LEFT JOIN a.course c
+    WHERE s.assignmentCode = :assignmentCode
+""")
+    List<SubmissionSummaryDTO> findSummariesByAssignmentCode(@Param("assignmentCode") int assignmentCode);
+
+    // 학생의 제출 통계 (전체 수, 채점된 수, 평균 점수, since 이후 제출 수)
+    @Query("""
+    SELECT COUNT(s), COUNT(s.score), AVG(s.score),
+           SUM(CASE WHEN s.submissionTime > :since THEN 1 ELSE 0 END)
+    FROM Submission s
+    WHERE s.studentId = :studentId
+""")
+    List<Object[]> summarizeByStudentId(@Param("studentId") String studentId, @Param("since") LocalDateTime since);
+
     Optional<Submission> findBySubmissionCode(int submissionCode);
 
     List<Submission> findByAssignmentCode(int assignmentCode);
 
+    // 과제 제출물 + 학생 정보 (제출물 일괄 내보내기용)
+    @Query("""
+    SELECT s FROM Submission s
+    LEFT JOIN FETCH s.student
+    WHERE s.assignmentCode = :assignmentCode
+    ORDER BY s.studentId
+""")
+    List<Submission> findByAssignmentCodeWithStudent(@Param("assignmentCode") int assignmentCode);
+
     boolean existsByAssignmentCodeAndStudentId(int assignmentCode, String studentId);
-}
\ No newline at end of file
+
+    // 과제 목록에 속한 제출물의 업로드 파일 경로 (이전 방식으로 저장된 파일, 삭제 후 파일 정리용)
+    @Query("SELECT s.filePath FROM Submission s WHERE s.assignmentCode IN :assignmentCodes AND s.filePath IS NOT NULL AND s.fileHash IS NULL")
+    List<String> findFilePathsByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+
+    // 과제 목록에 속한 제출물이 참조하는 파일 해시 (참조 해제용, 중복 포함)
+    @Query("SELECT s.fileHash FROM Submission s WHERE s.assignmentCode IN :assignmentCodes AND s.fileHash IS NOT NULL")
+    List<String> findFileHashesByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+
+    // 과제 목록에 속한 제출물 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Submission s WHERE s.assignmentCode IN :assignmentCodes")
+    int deleteByAssignmentCodeIn(@Param("assignmentCodes") Collection<Integer> assignmentCodes);
+}
@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 일정 시간 동안 청크가 들어오지 않은 업로드
+    List<UploadSession> findByUpdatedAtBefore(LocalDateTime cutoff);
+}
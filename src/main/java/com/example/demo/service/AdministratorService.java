@@ -1,9 +1,12 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.AssignmentSummaryDTO;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.repository.*;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,34 +43,41 @@ public class AdministratorService {
     @Autowired
     private AnswerRepository answerRepository;
 
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Autowired
+    private CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    private CoursePurgeService coursePurgeService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    @Autowired
+    private ProfessorDirectoryService professorDirectoryService;
+
     // 인증 관련 메서드들은 AuthenticationService로 이동되었으므로 제거
 
     // 승인 대기중인 학생 목록 조회
     public List<Student> getPendingStudents() {
-        return studentRepository.findAll().stream()
-                .filter(student -> !student.isAllowed())
-                .toList();
+        return studentRepository.findByAllowed(false);
     }
 
     // 승인 대기중인 교수 목록 조회
     public List<Professor> getPendingProfessors() {
-        return professorRepository.findAll().stream()
-                .filter(professor -> !professor.isAllowed())
-                .toList();
+        return professorRepository.findByAllowed(false);
     }
 
     // 승인된 학생 목록 조회
     public List<Student> getApprovedStudents() {
-        return studentRepository.findAll().stream()
-                .filter(Student::isAllowed)
-                .toList();
+        return studentRepository.findByAllowed(true);
     }
 
     // 승인된 교수 목록 조회
     public List<Professor> getApprovedProfessors() {
-        return professorRepository.findAll().stream()
-                .filter(Professor::isAllowed)
-                .toList();
+        return professorRepository.findByAllowed(true);
     }
 
     // 학생 승인
@@ -93,6 +103,7 @@ public class AdministratorService {
             if (professor != null && !professor.isAllowed()) {
                 professor.setAllowed(true);
                 professorRepository.save(professor);
+                professorDirectoryService.professorSaved(professorId, professor.getName());
                 return true;
             }
             return false;
@@ -125,6 +136,7 @@ public class AdministratorService {
             if (professor != null && professor.isAllowed()) {
                 professor.setAllowed(false);
                 professorRepository.save(professor);
+                professorDirectoryService.professorSaved(professorId, professor.getName());
                 return true;
             }
             return false;
@@ -155,6 +167,7 @@ public class AdministratorService {
             Professor professor = professorRepository.findByProfessorId(professorId);
             if (professor != null && !professor.isAllowed()) {
                 professorRepository.delete(professor);
+                professorDirectoryService.professorRemoved(professorId);
                 return true;
             }
             return false;
@@ -164,112 +177,60 @@ public class AdministratorService {
         }
     }
 
-    // 전체 통계 조회
+    // 전체 통계 조회 (엔티티 로드 없이 COUNT 쿼리만 사용)
     public AdminStatistics getStatistics() {
-        List<Student> allStudents = studentRepository.findAll();
-        List<Professor> allProfessors = professorRepository.findAll();
-
-        int pendingStudents = (int) allStudents.stream().filter(s -> !s.isAllowed()).count();
-        int approvedStudents = (int) allStudents.stream().filter(Student::isAllowed).count();
-        int pendingProfessors = (int) allProfessors.stream().filter(p -> !p.isAllowed()).count();
-        int approvedProfessors = (int) allProfessors.stream().filter(Professor::isAllowed).count();
+        int pendingStudents = (int) statisticsRepository.countStudentsByAllowed(false);
+        int approvedStudents = (int) statisticsRepository.countStudentsByAllowed(true);
+        int pendingProfessors = (int) statisticsRepository.countProfessorsByAllowed(false);
+        int approvedProfessors = (int) statisticsRepository.countProfessorsByAllowed(true);
 
         // 강의 및 과제 통계 추가
-        int totalCourses = courseRepository.findAll().size();
-        int totalAssignments = assignmentRepository.findAll().size();
+        int totalCourses = (int) statisticsRepository.countCourses();
+        int totalAssignments = (int) statisticsRepository.countAssignments();
 
         return new AdminStatistics(pendingStudents, approvedStudents, pendingProfessors, approvedProfessors, totalCourses, totalAssignments);
     }
 
     // === 강의 관리 기능 ===
 
-    // 모든 강의 조회 (교수 정보와 수강생 수 포함)
-    public List<Course> getAllCourses() {
+    // 전체 강의 수 (삭제 표시된 강의 제외)
+    public long countCourses() {
+        return courseRepository.count();
+    }
+
+    // 강의 목록 페이지 (강의 코드 순, 수강생 수 / 과제 수는 Course의 집계 카운터 컬럼 사용)
+    public CursorPage<Course> getCoursesPage(String cursor, Integer size) {
         try {
-            List<Course> courses = courseRepository.findAll();
-
-            for (Course course : courses) {
-                try {
-                    // 수강생 수 계산
-                    int studentCount = enrollmentRepository.findByCourseCode(course.getCourseCode()).size();
-                    course.setStudentCount(studentCount);
-
-                    // 과제 수 계산
-                    int assignmentCount = assignmentRepository.findByCourseCode(course.getCourseCode()).size();
-                    course.setAssignmentCount(assignmentCount);
-
-                } catch (Exception e) {
-                    course.setStudentCount(0);
-                    course.setAssignmentCount(0);
-                }
-            }
+            CursorPage.Cursor after = CursorPage.decode(cursor);
+            int limit = CursorPage.limit(size);
 
-            return courses;
+            List<Course> courses = courseRepository.findPage(after == null ? null : after.getKey(),
+                    PageRequest.ofSize(limit + 1));
+            return CursorPage.of(courses, limit, course -> CursorPage.encode(null, course.getCourseCode()));
         } catch (Exception e) {
-            System.err.println("Error loading all courses: " + e.getMessage());
-            return List.of();
+            System.err.println("Error loading courses: " + e.getMessage());
+            return CursorPage.empty();
         }
     }
 
     // 특정 강의 상세 정보 조회
     public Course getCourseDetails(String courseCode) {
         try {
-            Course course = courseRepository.findByCourseCode(courseCode);
-            if (course != null) {
-                // 수강생 수와 과제 수 설정
-                int studentCount = enrollmentRepository.findByCourseCode(courseCode).size();
-                int assignmentCount = assignmentRepository.findByCourseCode(courseCode).size();
-                course.setStudentCount(studentCount);
-                course.setAssignmentCount(assignmentCount);
-            }
-            return course;
+            return courseRepository.findByCourseCode(courseCode);
         } catch (Exception e) {
             System.err.println("Error loading course details: " + e.getMessage());
             return null;
         }
     }
 
-    // 강의 삭제 (모든 관련 데이터 포함)
+    // 강의 삭제 (삭제 표시 후 관련 데이터는 백그라운드에서 정리)
     @Transactional
     public boolean deleteCourse(String courseCode) {
         try {
-            // 1. 강의의 모든 과제 조회
-            List<Assignment> assignments = assignmentRepository.findByCourseCode(courseCode);
-
-            for (Assignment assignment : assignments) {
-                // 2. 각 과제의 모든 제출물 삭제
-                List<Submission> submissions = submissionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-                if (!submissions.isEmpty()) {
-                    submissionRepository.deleteAll(submissions);
-                }
-
-                // 3. 각 과제의 모든 질문과 답변 삭제
-                List<Question> questions = questionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-                for (Question question : questions) {
-                    List<Answer> answers = answerRepository.findByQuestionCode(question.getQuestionCode());
-                    if (!answers.isEmpty()) {
-                        answerRepository.deleteAll(answers);
-                    }
-                }
-                if (!questions.isEmpty()) {
-                    questionRepository.deleteAll(questions);
-                }
-            }
-
-            // 4. 모든 과제 삭제
-            if (!assignments.isEmpty()) {
-                assignmentRepository.deleteAll(assignments);
-            }
-
-            // 5. 수강신청 정보 삭제
-            List<Enrollment> enrollments = enrollmentRepository.findByCourseCode(courseCode);
-            if (!enrollments.isEmpty()) {
-                enrollmentRepository.deleteAll(enrollments);
+            if (!courseRepository.existsByCourseCode(courseCode)) {
+                return false;
             }
-
-            // 6. 강의 삭제
-            courseRepository.deleteById(courseCode);
-
+            coursePurgeService.markDeleted(courseCode);
             return true;
         } catch (Exception e) {
             System.err.println("Error deleting course: " + e.getMessage());
@@ -277,28 +238,43 @@ public class AdministratorService {
         }
     }
 
-    // === 과제 관리 기능 ===
-
-    // 모든 과제 조회 (강의 정보와 제출 통계 포함)
-    public List<Assignment> getAllAssignments() {
+    // 삭제 표시된 강의의 정리 진행 상황
+    public List<CoursePurgeService.PurgeStatus> getCoursePurgeStatuses() {
         try {
-            List<Assignment> assignments = assignmentRepository.findAll();
+            return coursePurgeService.getPurgeStatuses();
+        } catch (Exception e) {
+            System.err.println("Error loading course purge statuses: " + e.getMessage());
+            return List.of();
+        }
+    }
 
-            for (Assignment assignment : assignments) {
-                try {
-                    // 강의 정보 로드
-                    Course course = courseRepository.findByCourseCode(assignment.getCourseCode());
-                    assignment.setCourse(course);
+    // 강의/과제 메타데이터 캐시 적중률
+    public List<MetadataCacheService.CacheStats> getMetadataCacheStats() {
+        return metadataCacheService.getStats();
+    }
 
-                } catch (Exception e) {
-                    System.err.println("Error loading course for assignment " + assignment.getAssignmentCode());
-                }
-            }
+    // === 과제 관리 기능 ===
+
+    // 전체 과제 수 (삭제 표시된 강의의 과제 제외, 대시보드 통계와 같은 기준)
+    public long countAssignments() {
+        return statisticsRepository.countAssignments();
+    }
 
-            return assignments;
+    // 과제 목록 페이지 (최근 생성 순, 강의명/담당 교수 이름은 조인으로 함께 조회)
+    public CursorPage<AssignmentSummaryDTO> getAssignmentsPage(String cursor, Integer size) {
+        try {
+            CursorPage.Cursor after = CursorPage.decode(cursor);
+            int limit = CursorPage.limit(size);
+
+            List<AssignmentSummaryDTO> assignments = assignmentRepository.findSummaryPage(
+                    after == null ? null : after.getTime(),
+                    after == null ? null : after.getIntKey(),
+                    PageRequest.ofSize(limit + 1));
+            return CursorPage.of(assignments, limit,
+                    assignment -> CursorPage.encode(assignment.getCreatedDate(), assignment.getAssignmentCode()));
         } catch (Exception e) {
-            System.err.println("Error loading all assignments: " + e.getMessage());
-            return List.of();
+            System.err.println("Error loading assignments: " + e.getMessage());
+            return CursorPage.empty();
         }
     }
 
@@ -311,16 +287,16 @@ public class AdministratorService {
             }
 
             // 해당 강의의 전체 수강생 수
-            int totalStudents = enrollmentRepository.findByCourseCode(assignment.getCourseCode()).size();
+            int totalStudents = (int) statisticsRepository.countEnrollmentsByCourseCode(assignment.getCourseCode());
 
             // 제출된 과제 수
-            int submittedCount = submissionRepository.findByAssignmentCode(assignmentCode).size();
+            int submittedCount = (int) statisticsRepository.countSubmissionsByAssignmentCode(assignmentCode);
 
             // 미제출 과제 수
             int notSubmittedCount = totalStudents - submittedCount;
 
             // 질문 수
-            int questionCount = questionRepository.findByAssignmentCode(assignmentCode).size();
+            int questionCount = (int) statisticsRepository.countQuestionsByAssignmentCode(assignmentCode);
 
             return new AssignmentStatistics(totalStudents, submittedCount, notSubmittedCount, questionCount);
 
@@ -334,27 +310,10 @@ public class AdministratorService {
     @Transactional
     public boolean deleteAssignment(int assignmentCode) {
         try {
-            // 1. 모든 제출물 삭제
-            List<Submission> submissions = submissionRepository.findByAssignmentCode(assignmentCode);
-            if (!submissions.isEmpty()) {
-                submissionRepository.deleteAll(submissions);
+            if (!assignmentRepository.existsById(assignmentCode)) {
+                return false;
             }
-
-            // 2. 모든 질문과 답변 삭제
-            List<Question> questions = questionRepository.findByAssignmentCode(assignmentCode);
-            for (Question question : questions) {
-                List<Answer> answers = answerRepository.findByQuestionCode(question.getQuestionCode());
-                if (!answers.isEmpty()) {
-                    answerRepository.deleteAll(answers);
-                }
-            }
-            if (!questions.isEmpty()) {
-                questionRepository.deleteAll(questions);
-            }
-
-            // 3. 과제 삭제
-            assignmentRepository.deleteById(assignmentCode);
-
+            cascadeDeleteService.deleteAssignment(assignmentCode);
             return true;
         } catch (Exception e) {
             System.err.println("Error deleting assignment: " + e.getMessage());
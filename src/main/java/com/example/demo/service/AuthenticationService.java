@@ -27,6 +27,9 @@ public class AuthenticationService {
     @Autowired
     private AdministratorRepository administratorRepository;
 
+    @Autowired
+    private ProfessorDirectoryService professorDirectoryService;
+
     // 비밀번호 해시화 메서드 (public으로 추가)
     public String hashPassword(String password) {
         validatePassword(password);
@@ -76,6 +79,7 @@ public class AuthenticationService {
             professor.setAllowed(false); // 기본값: 승인 대기
 
             professorRepository.save(professor);
+            professorDirectoryService.professorSaved(professorId, name);
             return true;
         } catch (Exception e) {
             System.err.println("Error registering professor: " + e.getMessage());
@@ -0,0 +1,250 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.FileBlob;
+import com.example.demo.repository.FileBlobRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 제출 파일 저장소 (내용 주소 기반, 중복 제거)
+ * 업로드를 받으면서 SHA-256을 계산하고 uploads/blobs/ab/cd/<hash> 에 한 번만 저장
+ * 제출물이 참조하는 수(ref_count)를 관리하고, 참조가 없어진 파일은 유예 기간 후 GC가 삭제
+ */
+@Service
+public class BlobStorageService {
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${file.blob.gc-grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    // 스트림을 파일 저장소에 기록만 함 (참조 수 0, 유예 기간 안에 acquire 하지 않으면 GC 대상)
+    // 느린 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출 (행 등록은 별도 트랜잭션으로 바로 커밋)
+    public StoredBlob write(InputStream in) throws IOException {
+        Path root = blobRoot();
+        Path tempDir = root.resolve("tmp");
+        Files.createDirectories(tempDir);
+
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = digestIn.transferTo(out);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = blobPath(hash);
+
+            // 행을 먼저 등록해 GC 유예 기간을 확보한 뒤 파일 배치 (같은 파일시스템 안에서 이름만 변경)
+            fileBlobRepository.register(hash, size, target.toString(), LocalDateTime.now());
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            return new StoredBlob(hash, target.toString(), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 참조 수 1 증가
+    @Transactional
+    public void acquire(StoredBlob blob) throws IOException {
+        if (fileBlobRepository.acquire(blob.getHash()) == 0) {
+            throw new IOException("파일 저장소에 등록되지 않은 파일입니다: " + blob.getHash());
+        }
+    }
+
+    // 참조 해제 (실제 삭제는 GC가 처리)
+    @Transactional
+    public void release(String hash) {
+        if (hash == null) {
+            return;
+        }
+        fileBlobRepository.release(hash, 1, LocalDateTime.now());
+    }
+
+    // 여러 제출물의 참조를 한 번에 해제 (같은 해시는 묶어서 처리)
+    @Transactional
+    public void releaseAll(Collection<String> hashes) {
+        Map<String, Long> counts = hashes.stream()
+                .filter(hash -> hash != null)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        LocalDateTime now = LocalDateTime.now();
+        counts.forEach((hash, count) -> fileBlobRepository.release(hash, count.intValue(), now));
+    }
+
+    // 참조가 없는 블롭 정리 (기본: 매일 새벽 4시 30분)
+    // 행 삭제와 같은 트랜잭션 안에서 파일을 trash/ 로 옮기고 커밋 이후에 삭제
+    // 삭제한 행의 잠금은 커밋까지 유지되므로 그 사이 같은 해시를 등록(register)하는 업로드는 커밋을 기다렸다가
+    // 파일이 없는 것을 보고 새로 배치함 (파일 확인 후 GC가 파일을 지우는 경합 방지)
+    @Scheduled(cron = "${file.blob.gc-cron:0 30 4 * * *}")
+    @Transactional
+    public int collectGarbage() {
+        restoreTrash();
+
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(gcGraceMinutes);
+        Map<String, Path> trashed = new LinkedHashMap<>();
+
+        for (FileBlob blob : fileBlobRepository.findUnreferencedBefore(cutoff)) {
+            if (fileBlobRepository.deleteIfUnreferenced(blob.getHash(), cutoff) > 0) {
+                trashed.put(blob.getHash(), moveToTrash(blob.getHash()));
+            }
+        }
+
+        if (!trashed.isEmpty()) {
+            emptyTrashAfterCompletion(trashed);
+            System.out.println("Blob GC: " + trashed.size() + "개 파일 정리");
+        }
+        return trashed.size();
+    }
+
+    // 파일을 trash/<hash>.<시각> 으로 이동 (파일이 없으면 null)
+    private Path moveToTrash(String hash) {
+        Path source = blobPath(hash);
+        try {
+            Path trash = trashDir().resolve(hash + "." + System.nanoTime());
+            Files.createDirectories(trash.getParent());
+            Files.move(source, trash, StandardCopyOption.ATOMIC_MOVE);
+            return trash;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            // 행 삭제를 롤백해 파일과 행이 어긋나지 않게 함
+            throw new RuntimeException("블롭 정리 중 오류가 발생했습니다: " + hash + " (" + e.getMessage() + ")");
+        }
+    }
+
+    // 커밋되면 trash 파일 삭제, 롤백되면 원래 위치로 복구
+    private void emptyTrashAfterCompletion(Map<String, Path> trashed) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                trashed.forEach((hash, trash) -> {
+                    if (trash == null) {
+                        return;
+                    }
+                    if (status == STATUS_COMMITTED) {
+                        deleteTrash(trash);
+                    } else {
+                        restore(hash, trash);
+                    }
+                });
+            }
+        });
+    }
+
+    // 이전 GC가 커밋/복구 전에 중단되어 trash/ 에 남은 파일 처리
+    // 행이 남아 있으면 (롤백된 경우) 원래 위치로 복구, 행이 없으면 삭제
+    private void restoreTrash() {
+        Path dir = trashDir();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path trash : files.toList()) {
+                String name = trash.getFileName().toString();
+                String hash = name.substring(0, Math.max(name.indexOf('.'), 0));
+                if (!hash.isEmpty() && fileBlobRepository.existsById(hash)) {
+                    restore(hash, trash);
+                } else {
+                    deleteTrash(trash);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading blob trash: " + e.getMessage());
+        }
+    }
+
+    private void restore(String hash, Path trash) {
+        Path target = blobPath(hash);
+        try {
+            if (Files.exists(target)) {
+                // 그 사이 같은 내용이 다시 배치된 경우
+                Files.deleteIfExists(trash);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(trash, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            System.err.println("Error restoring blob " + hash + ": " + e.getMessage());
+        }
+    }
+
+    private void deleteTrash(Path trash) {
+        try {
+            Files.deleteIfExists(trash);
+        } catch (IOException e) {
+            System.err.println("Error deleting blob " + trash.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    // 해시 앞 4자리로 2단계 디렉터리 분산 (디렉터리당 파일 수 제한)
+    private Path blobPath(String hash) {
+        return blobRoot().resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path blobRoot() {
+        return Paths.get(uploadDir).toAbsolutePath().resolve("blobs");
+    }
+
+    private Path trashDir() {
+        return blobRoot().resolve("trash");
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    public static class StoredBlob {
+        private final String hash;
+        private final String path;
+        private final long size;
+
+        public StoredBlob(String hash, String path, long size) {
+            this.hash = hash;
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
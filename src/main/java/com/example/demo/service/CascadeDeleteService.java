@@ -0,0 +1,184 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.repository.*;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * 강의 / 과제 일괄 삭제
+ * 엔티티를 하나씩 로드하지 않고 DELETE ... WHERE ... IN (...) 쿼리를 의존 순서대로 실행
+ * (답변 → 질문 → 제출물 → 과제 → 수강신청 → 부교수 → 강의)
+ * 제출물 파일은 파일 저장소 참조를 해제하고, 이전 방식으로 저장된 파일은 트랜잭션 커밋 후에 삭제
+ */
+@Service
+@Transactional
+public class CascadeDeleteService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private BlobStorageService blobStorageService;
+
+    @Autowired
+    private StudentDashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    // 강의 삭제 (과제, 제출물, 질문, 답변, 수강신청, 부교수 모두 삭제)
+    public DeleteResult deleteCourse(String courseCode) {
+        if (!courseRepository.existsByCourseCode(courseCode)) {
+            throw new RuntimeException("강의를 찾을 수 없습니다.");
+        }
+
+        DeleteResult result = new DeleteResult();
+        List<Integer> assignmentCodes = assignmentRepository.findAssignmentCodesByCourseCode(courseCode);
+        deleteAssignmentData(assignmentCodes, result);
+        deleteCourseData(courseCode, result);
+
+        System.out.println("강의 삭제 완료 (" + courseCode + "): " + result);
+        return result;
+    }
+
+    // 과제 묶음의 하위 데이터와 과제 행만 삭제 (강의 카운터는 갱신하지 않음, 정리 작업용)
+    public DeleteResult deleteAssignments(List<Integer> assignmentCodes) {
+        DeleteResult result = new DeleteResult();
+        deleteAssignmentData(assignmentCodes, result);
+        return result;
+    }
+
+    // 과제가 모두 정리된 강의의 수강신청 일부(최대 batchSize건) 삭제
+    public int deleteEnrollments(String courseCode, int batchSize) {
+        return enrollmentRepository.deleteByCourseCodeLimit(courseCode, batchSize);
+    }
+
+    // 수강신청, 부교수, 강의 행 삭제 (과제 데이터는 먼저 정리되어 있어야 함)
+    public DeleteResult deleteCourseRow(String courseCode) {
+        DeleteResult result = new DeleteResult();
+        deleteCourseData(courseCode, result);
+        return result;
+    }
+
+    private void deleteCourseData(String courseCode, DeleteResult result) {
+        result.enrollments = enrollmentRepository.deleteAllByCourseCode(courseCode);
+        result.subProfessors = courseRepository.deleteSubProfessorsByCourseCode(courseCode);
+        result.courses = courseRepository.deleteByCourseCodeBulk(courseCode);
+        enrollmentIndexService.courseRemoved(courseCode);
+        metadataCacheService.evictCourse(courseCode);
+    }
+
+    // 과제 삭제 (제출물, 질문, 답변 모두 삭제)
+    public DeleteResult deleteAssignment(int assignmentCode) {
+        Assignment assignment = assignmentRepository.findById(assignmentCode)
+                .orElseThrow(() -> new RuntimeException("과제를 찾을 수 없습니다."));
+        String courseCode = assignment.getCourseCode();
+
+        DeleteResult result = new DeleteResult();
+        deleteAssignmentData(List.of(assignmentCode), result);
+
+        // 강의는 남아 있으므로 과제 수 카운터 갱신
+        courseRepository.adjustAssignmentCount(courseCode, -result.assignments);
+        dashboardSnapshotService.assignmentsChanged(courseCode);
+
+        System.out.println("과제 삭제 완료 (" + assignmentCode + "): " + result);
+        return result;
+    }
+
+    private void deleteAssignmentData(List<Integer> assignmentCodes, DeleteResult result) {
+        if (assignmentCodes.isEmpty()) {
+            return;
+        }
+
+        // 행 삭제 전에 정리할 파일 경로와 참조 중인 파일 해시 확보
+        List<String> filePaths = submissionRepository.findFilePathsByAssignmentCodeIn(assignmentCodes);
+        List<String> fileHashes = submissionRepository.findFileHashesByAssignmentCodeIn(assignmentCodes);
+
+        result.answers = answerRepository.deleteByAssignmentCodeIn(assignmentCodes);
+        result.questions = questionRepository.deleteByAssignmentCodeIn(assignmentCodes);
+        result.submissions = submissionRepository.deleteByAssignmentCodeIn(assignmentCodes);
+        result.assignments = assignmentRepository.deleteByAssignmentCodeIn(assignmentCodes);
+        metadataCacheService.evictAssignments(assignmentCodes);
+
+        blobStorageService.releaseAll(fileHashes);
+        deleteFilesAfterCommit(filePaths, result);
+    }
+
+    // 롤백 시 파일이 사라지지 않도록 커밋 이후에 삭제
+    private void deleteFilesAfterCommit(List<String> filePaths, DeleteResult result) {
+        if (filePaths.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteFiles(filePaths, result);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteFiles(filePaths, result);
+            }
+        });
+    }
+
+    private void deleteFiles(List<String> filePaths, DeleteResult result) {
+        for (String filePath : filePaths) {
+            try {
+                File file = new File(filePath);
+                if (file.exists() && file.delete()) {
+                    result.files++;
+                }
+            } catch (Exception e) {
+                System.err.println("Error deleting file " + filePath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // 삭제된 행 수 (파일 수는 커밋 이후 채워짐)
+    @Getter
+    public static class DeleteResult {
+        private int answers;
+        private int questions;
+        private int submissions;
+        private int assignments;
+        private int enrollments;
+        private int subProfessors;
+        private int courses;
+        private int files;
+
+        @Override
+        public String toString() {
+            return "answers=" + answers + ", questions=" + questions + ", submissions=" + submissions
+                    + ", assignments=" + assignments + ", enrollments=" + enrollments
+                    + ", subProfessors=" + subProfessors + ", courses=" + courses;
+        }
+    }
+}
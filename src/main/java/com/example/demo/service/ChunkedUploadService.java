@@ -0,0 +1,286 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Submission;
+import com.example.demo.domain.UploadSession;
+import com.example.demo.repository.UploadSessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이어받기 가능한 분할 업로드 (init → 청크 전송 → complete)
+ * 청크는 uploads/staging/<uploadId>.part 에 이어 붙이고, 완료 시 SHA-256을 확인한 뒤 제출물에 첨부
+ * 연결이 끊기면 클라이언트는 받은 크기(receivedSize)부터 다시 전송
+ */
+@Service
+@Transactional
+public class ChunkedUploadService {
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    @Autowired
+    private BlobStorageService blobStorageService;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    // 일반 업로드와 같은 최대 크기 적용
+    @Value("${file.upload.max-size:100MB}")
+    private DataSize maxFileSize;
+
+    @Value("${file.chunked-upload.chunk-size:5242880}")
+    private int chunkSize;
+
+    @Value("${file.chunked-upload.expire-hours:24}")
+    private long expireHours;
+
+    // 같은 업로드에 대한 청크 쓰기 직렬화
+    // (synchronized는 가상 스레드에서 파일 I/O 동안 캐리어 스레드를 고정시키므로 ReentrantLock 사용)
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // 업로드 시작 (submissionCode가 있으면 기존 제출물 수정)
+    public UploadSession init(String studentId, Integer assignmentCode, Integer submissionCode,
+                              String originalFileName, String contentType, long totalSize) {
+        if (totalSize <= 0) {
+            throw new RuntimeException("파일 크기가 올바르지 않습니다.");
+        }
+        if (totalSize > maxFileSize.toBytes()) {
+            throw new RuntimeException("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        }
+
+        UploadSession session = new UploadSession();
+        if (submissionCode != null) {
+            Submission submission = studentService.getSubmissionById(submissionCode);
+            if (submission == null || !submission.getStudentId().equals(studentId)) {
+                throw new RuntimeException("제출물을 찾을 수 없습니다.");
+            }
+            session.setSubmissionCode(submissionCode);
+            session.setAssignmentCode(submission.getAssignmentCode());
+        } else {
+            if (assignmentCode == null) {
+                throw new RuntimeException("과제 정보가 누락되었습니다.");
+            }
+            MetadataCacheService.AssignmentInfo assignment = metadataCacheService.getAssignment(assignmentCode);
+            if (assignment == null) {
+                throw new RuntimeException("과제를 찾을 수 없습니다.");
+            }
+            session.setAssignmentCode(assignment.getAssignmentCode());
+        }
+
+        session.setUploadId(UUID.randomUUID().toString());
+        session.setStudentId(studentId);
+        session.setOriginalFileName(originalFileName);
+        session.setFileContentType(contentType);
+        session.setTotalSize(totalSize);
+        session.setReceivedSize(0);
+        session.setCreatedAt(LocalDateTime.now());
+        session.setUpdatedAt(LocalDateTime.now());
+
+        try {
+            Files.createDirectories(stagingDir());
+            Files.deleteIfExists(stagingPath(session.getUploadId()));
+            Files.createFile(stagingPath(session.getUploadId()));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 준비 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        return uploadSessionRepository.save(session);
+    }
+
+    // 업로드 상태 조회 (이어받기 위치 확인용)
+    @Transactional(readOnly = true)
+    public UploadSession getSession(String uploadId, String studentId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new RuntimeException("업로드 정보를 찾을 수 없습니다."));
+        if (!session.getStudentId().equals(studentId)) {
+            throw new RuntimeException("업로드 정보를 찾을 수 없습니다.");
+        }
+        return session;
+    }
+
+    // offset 위치부터 청크 기록 후 받은 크기 반환
+    // offset이 받은 크기보다 작으면 (응답을 못 받은 청크 재전송) 그 위치부터 덮어씀
+    // 청크 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long appendChunk(String uploadId, String studentId, long offset, InputStream in) {
+        ReentrantLock lock = locks.computeIfAbsent(uploadId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            UploadSession session = getSession(uploadId, studentId);
+
+            if (offset < 0 || offset > session.getReceivedSize()) {
+                throw new RuntimeException("청크 위치가 올바르지 않습니다. (받은 크기: " + session.getReceivedSize() + ")");
+            }
+
+            long received;
+            try (FileChannel channel = FileChannel.open(stagingPath(uploadId), StandardOpenOption.WRITE)) {
+                channel.truncate(offset);
+                channel.position(offset);
+
+                long remaining = session.getTotalSize() - offset;
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (read > remaining) {
+                        throw new RuntimeException("전송된 데이터가 파일 크기를 초과했습니다.");
+                    }
+                    channel.write(ByteBuffer.wrap(buffer, 0, read));
+                    remaining -= read;
+                }
+                received = channel.size();
+            } catch (IOException e) {
+                // 연결이 끊겨도 이미 기록된 부분은 유지 (다음 요청에서 이어서 전송)
+                received = stagedSize(uploadId);
+                System.err.println("Chunk upload interrupted (" + uploadId + "): " + e.getMessage());
+            }
+
+            session.setReceivedSize(received);
+            session.setUpdatedAt(LocalDateTime.now());
+            uploadSessionRepository.save(session);
+            return received;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 업로드 완료: 크기와 체크섬 확인 후 제출물에 첨부
+    // 파일 해시 계산/복사 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 파일 저장소에 기록한 뒤 짧은 트랜잭션으로 첨부
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Submission complete(String uploadId, String studentId, String content, String sha256) {
+        UploadSession session = getSession(uploadId, studentId);
+
+        if (session.getReceivedSize() != session.getTotalSize()) {
+            throw new RuntimeException("파일이 모두 전송되지 않았습니다. (" +
+                    session.getReceivedSize() + "/" + session.getTotalSize() + ")");
+        }
+        if (sha256 == null || sha256.isBlank()) {
+            throw new RuntimeException("파일 체크섬이 누락되었습니다.");
+        }
+
+        // 파일을 기록하기 전에 제출 가능 여부를 먼저 확인
+        boolean update = session.getSubmissionCode() != null;
+        if (update) {
+            studentService.checkEditable(session.getSubmissionCode());
+        } else {
+            studentService.checkSubmittable(session.getAssignmentCode(), studentId);
+        }
+
+        BlobStorageService.StoredBlob blob;
+        try (InputStream in = Files.newInputStream(stagingPath(uploadId))) {
+            blob = blobStorageService.write(in);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        // 저장소에 기록된 해시와 클라이언트 체크섬 비교 (불일치 시 첨부하지 않음, 업로드는 다시 전송 가능)
+        // 기록한 블롭은 참조되지 않으므로 GC가 정리
+        if (!sha256.trim().equalsIgnoreCase(blob.getHash())) {
+            throw new RuntimeException("파일 체크섬이 일치하지 않습니다. 파일을 다시 전송해주세요.");
+        }
+
+        Submission submission = update
+                ? studentService.updateSubmissionWithStoredFile(session.getSubmissionCode(), content,
+                        blob, session.getOriginalFileName(), session.getFileContentType())
+                : studentService.submitAssignmentWithStoredFile(session.getAssignmentCode(), studentId, content,
+                        blob, session.getOriginalFileName(), session.getFileContentType());
+
+        uploadSessionRepository.delete(session);
+        deleteStagingAfterCommit(List.of(uploadId));
+        return submission;
+    }
+
+    // 업로드 취소
+    public void cancel(String uploadId, String studentId) {
+        UploadSession session = getSession(uploadId, studentId);
+        uploadSessionRepository.delete(session);
+        deleteStagingAfterCommit(List.of(uploadId));
+    }
+
+    // 오래된 미완료 업로드 정리 (기본: 1시간마다)
+    @Scheduled(fixedDelayString = "${file.chunked-upload.cleanup-interval-ms:3600000}")
+    public int cleanupExpired() {
+        List<UploadSession> expired = uploadSessionRepository
+                .findByUpdatedAtBefore(LocalDateTime.now().minusHours(expireHours));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        uploadSessionRepository.deleteAll(expired);
+        deleteStagingAfterCommit(expired.stream().map(UploadSession::getUploadId).toList());
+        System.out.println("만료된 분할 업로드 " + expired.size() + "건 정리");
+        return expired.size();
+    }
+
+    private void deleteStagingAfterCommit(List<String> uploadIds) {
+        Runnable delete = () -> {
+            for (String uploadId : uploadIds) {
+                locks.remove(uploadId);
+                try {
+                    Files.deleteIfExists(stagingPath(uploadId));
+                } catch (IOException e) {
+                    System.err.println("Error deleting staging file " + uploadId + ": " + e.getMessage());
+                }
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete.run();
+            }
+        });
+    }
+
+    private long stagedSize(String uploadId) {
+        try {
+            return Files.size(stagingPath(uploadId));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Path stagingDir() {
+        return Paths.get(uploadDir).toAbsolutePath().resolve("staging");
+    }
+
+    private Path stagingPath(String uploadId) {
+        return stagingDir().resolve(uploadId + ".part");
+    }
+}
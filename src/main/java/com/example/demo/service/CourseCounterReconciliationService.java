@@ -0,0 +1,76 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Course;
+import com.example.demo.dto.CourseCountDTO;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.StatisticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class CourseCounterReconciliationService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    /**
+     * 애플리케이션 시작 시 1회 보정 (카운터 컬럼이 새로 추가되어 0으로 채워진 경우 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Course 집계 카운터를 실제 데이터와 비교하여 어긋난 강의만 갱신
+     * @return 보정된 강의 수
+     */
+    @Scheduled(cron = "${course.counter.reconcile-cron:0 0 4 * * *}")
+    public int reconcile() {
+        try {
+            Map<String, Long> studentCounts = toCountMap(statisticsRepository.countEnrollmentsGroupByCourse());
+            Map<String, Long> assignmentCounts = toCountMap(statisticsRepository.countAssignmentsGroupByCourse());
+            Map<String, Long> subProfessorCounts = toCountMap(statisticsRepository.countSubProfessorsGroupByCourse());
+
+            int repairedCount = 0;
+            for (Course course : courseRepository.findAll()) {
+                String courseCode = course.getCourseCode();
+                int studentCount = studentCounts.getOrDefault(courseCode, 0L).intValue();
+                int assignmentCount = assignmentCounts.getOrDefault(courseCode, 0L).intValue();
+                int subProfessorCount = subProfessorCounts.getOrDefault(courseCode, 0L).intValue();
+
+                if (course.getStudentCount() != studentCount
+                        || course.getAssignmentCount() != assignmentCount
+                        || course.getSubProfessorCount() != subProfessorCount) {
+                    courseRepository.updateCounters(courseCode, studentCount, assignmentCount, subProfessorCount);
+                    repairedCount++;
+                }
+            }
+
+            if (repairedCount > 0) {
+                System.out.println("강의 카운터 보정 완료: " + repairedCount + "개 강의");
+            }
+            return repairedCount;
+        } catch (Exception e) {
+            System.err.println("강의 카운터 보정 중 오류가 발생했습니다: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private Map<String, Long> toCountMap(List<CourseCountDTO> counts) {
+        return counts.stream()
+                .collect(Collectors.toMap(CourseCountDTO::getCourseCode, CourseCountDTO::getCount));
+    }
+}
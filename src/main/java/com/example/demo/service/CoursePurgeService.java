@@ -0,0 +1,151 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Course;
+import com.example.demo.repository.AssignmentRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.StatisticsRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강의 삭제를 두 단계로 처리
+ * 1. markDeleted: 강의에 삭제 표시만 하고 즉시 반환 (모든 Course 조회에서 제외됨)
+ * 2. purge: 백그라운드에서 하위 데이터를 일정 크기 묶음으로 삭제, 묶음마다 별도 트랜잭션으로 커밋
+ * 진행 상태는 DB의 삭제 표시와 남은 행 수로 판단하므로 서버가 재시작되어도 이어서 정리함
+ */
+@Service
+public class CoursePurgeService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Autowired
+    private CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    private StudentDashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    @Value("${course.purge.batch-size:20}")
+    private int assignmentBatchSize;
+
+    @Value("${course.purge.enrollment-batch-size:500}")
+    private int enrollmentBatchSize;
+
+    // 재시작 이후 강의별로 삭제한 행 수 (관리자 진행 상황 표시용)
+    private final Map<String, Integer> purgedRows = new ConcurrentHashMap<>();
+
+    // 강의 삭제 표시 (tombstone)
+    public void markDeleted(String courseCode) {
+        int updated = courseRepository.markDeleted(courseCode, LocalDateTime.now());
+        if (updated == 0) {
+            throw new RuntimeException("강의를 찾을 수 없습니다.");
+        }
+        enrollmentIndexService.courseRemoved(courseCode);
+        metadataCacheService.evictCourse(courseCode);
+        dashboardSnapshotService.courseRemoved(courseCode);
+    }
+
+    // 삭제 표시된 강의를 묶음 단위로 정리
+    @Scheduled(fixedDelayString = "${course.purge.interval-ms:10000}")
+    public void purge() {
+        for (Course course : courseRepository.findDeletedCourses()) {
+            try {
+                purgeCourse(course.getCourseCode());
+            } catch (Exception e) {
+                // 실패한 강의는 다음 주기에 이어서 처리
+                System.err.println("Error purging course " + course.getCourseCode() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void purgeCourse(String courseCode) {
+        // 1. 과제 묶음 단위 삭제 (답변 → 질문 → 제출물 → 과제, 파일은 커밋 후 삭제)
+        List<Integer> assignmentCodes = nextAssignmentBatch(courseCode);
+        while (!assignmentCodes.isEmpty()) {
+            CascadeDeleteService.DeleteResult result = cascadeDeleteService.deleteAssignments(assignmentCodes);
+            addPurgedRows(courseCode, result.getAnswers() + result.getQuestions()
+                    + result.getSubmissions() + result.getAssignments());
+            assignmentCodes = nextAssignmentBatch(courseCode);
+        }
+
+        // 2. 수강신청 묶음 단위 삭제
+        int deleted;
+        do {
+            deleted = cascadeDeleteService.deleteEnrollments(courseCode, enrollmentBatchSize);
+            addPurgedRows(courseCode, deleted);
+        } while (deleted > 0);
+
+        // 3. 부교수, 강의 행 삭제
+        CascadeDeleteService.DeleteResult result = cascadeDeleteService.deleteCourseRow(courseCode);
+        addPurgedRows(courseCode, result.getSubProfessors() + result.getCourses());
+
+        purgedRows.remove(courseCode);
+        System.out.println("삭제 표시된 강의 정리 완료: " + courseCode);
+    }
+
+    private List<Integer> nextAssignmentBatch(String courseCode) {
+        return assignmentRepository.findAssignmentCodesByCourseCode(courseCode, assignmentBatchSize);
+    }
+
+    private void addPurgedRows(String courseCode, int rows) {
+        purgedRows.merge(courseCode, rows, Integer::sum);
+    }
+
+    // 관리자용 정리 진행 상황
+    public List<PurgeStatus> getPurgeStatuses() {
+        List<PurgeStatus> statuses = new ArrayList<>();
+        for (Course course : courseRepository.findDeletedCourses()) {
+            String courseCode = course.getCourseCode();
+            statuses.add(new PurgeStatus(
+                    courseCode,
+                    course.getCourseName(),
+                    course.getDeletedAt(),
+                    statisticsRepository.countAssignmentsByCourseCode(courseCode),
+                    statisticsRepository.countEnrollmentsByCourseCode(courseCode),
+                    purgedRows.getOrDefault(courseCode, 0)
+            ));
+        }
+        return statuses;
+    }
+
+    @Getter
+    public static class PurgeStatus {
+        private final String courseCode;
+        private final String courseName;
+        private final LocalDateTime deletedAt;
+        private final long remainingAssignments;
+        private final long remainingEnrollments;
+        private final int purgedRows;
+
+        public PurgeStatus(String courseCode, String courseName, LocalDateTime deletedAt,
+                           long remainingAssignments, long remainingEnrollments, int purgedRows) {
+            this.courseCode = courseCode;
+            this.courseName = courseName;
+            this.deletedAt = deletedAt;
+            this.remainingAssignments = remainingAssignments;
+            this.remainingEnrollments = remainingEnrollments;
+            this.purgedRows = purgedRows;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.EnrollmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 수강 관계 인덱스 (메모리)
+ * 학생 → 수강 과목, 과목 → 수강생을 양방향으로 보관해서 접근 권한 확인을 DB 조회 없이 처리
+ *
+ * - 학번/수업코드는 정수 번호로 바꾸고, 관계는 정렬된 int 배열로 저장 (이진 탐색으로 확인)
+ * - 배열은 변경 시 새로 만들어 교체하므로 읽기는 잠금 없이 처리, 쓰기는 드물어서 인덱스 전체를 잠금
+ * - 수강 등록/해제/제외, 강의 삭제는 트랜잭션 커밋 이후에 반영
+ * - 시작 시 적재하고 주기적으로 DB 기준으로 다시 적재 (다른 인스턴스에서 변경된 내용 반영)
+ * - 적재 전에는 DB로 확인
+ */
+@Service
+public class EnrollmentIndexService {
+
+    private static final int[] EMPTY = new int[0];
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private volatile Index index;
+
+    // 변경 횟수 (다시 적재하는 동안 변경이 있었는지 확인용)
+    private long modifications;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 인덱스를 다시 만들어 교체
+     * 적재 중에 변경이 반영되었다면 교체하지 않음 (다음 주기에 다시 시도)
+     * @return 적재한 수강 관계 수 (교체하지 않았으면 -1)
+     */
+    @Scheduled(fixedDelayString = "${enrollment.index.refresh-interval-ms:600000}", initialDelayString = "${enrollment.index.refresh-interval-ms:600000}")
+    public int reload() {
+        try {
+            long startedAt;
+            synchronized (this) {
+                startedAt = modifications;
+            }
+
+            List<Object[]> pairs = enrollmentRepository.findAllStudentCoursePairs();
+            Index loaded = new Index();
+            for (Object[] pair : pairs) {
+                loaded.add((String) pair[0], (String) pair[1]);
+            }
+
+            synchronized (this) {
+                if (modifications != startedAt) {
+                    System.out.println("수강 관계 인덱스 적재 중 변경이 있어 교체를 건너뜁니다.");
+                    return -1;
+                }
+                index = loaded;
+            }
+            System.out.println("수강 관계 인덱스 적재 완료: " + pairs.size() + "건");
+            return pairs.size();
+        } catch (Exception e) {
+            System.err.println("수강 관계 인덱스 적재 중 오류가 발생했습니다: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    // 학생이 해당 강의를 수강 중인지 확인
+    public boolean isEnrolled(String studentId, String courseCode) {
+        if (studentId == null || courseCode == null) {
+            return false;
+        }
+        Index current = index;
+        if (current == null) {
+            return enrollmentRepository.existsByStudentIdAndCourseCode(studentId, courseCode);
+        }
+        return current.contains(studentId, courseCode);
+    }
+
+    // 학생의 수강 과목 코드 목록
+    public List<String> getCourseCodes(String studentId) {
+        Index current = index;
+        if (current == null) {
+            return enrollmentRepository.findByStudentId(studentId).stream()
+                    .map(enrollment -> enrollment.getCourseCode())
+                    .toList();
+        }
+        return current.courseCodesOf(studentId);
+    }
+
+    // 강의의 수강생 학번 목록
+    public List<String> getStudentIds(String courseCode) {
+        Index current = index;
+        if (current == null) {
+            return enrollmentRepository.findByCourseCode(courseCode).stream()
+                    .map(enrollment -> enrollment.getStudentId())
+                    .toList();
+        }
+        return current.studentIdsOf(courseCode);
+    }
+
+    // === 변경 반영 (커밋 이후) ===
+
+    public void enrolled(String studentId, String courseCode) {
+        afterCommit(() -> modify(current -> current.add(studentId, courseCode)));
+    }
+
+    public void unenrolled(String studentId, String courseCode) {
+        afterCommit(() -> modify(current -> current.remove(studentId, courseCode)));
+    }
+
+    // 강의 삭제 (삭제 표시된 강의는 수강 관계가 남아 있어도 접근 불가)
+    public void courseRemoved(String courseCode) {
+        afterCommit(() -> modify(current -> current.removeCourse(courseCode)));
+    }
+
+    private synchronized void modify(Consumer<Index> change) {
+        modifications++;
+        if (index != null) {
+            change.accept(index);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 양방향 인덱스
+     * 쓰기는 EnrollmentIndexService의 잠금 안에서만 호출됨
+     */
+    private static class Index {
+        // 학번/수업코드 ↔ 정수 번호
+        private final Map<String, Integer> studentNumbers = new ConcurrentHashMap<>();
+        private final Map<String, Integer> courseNumbers = new ConcurrentHashMap<>();
+        private final List<String> studentIds = new ArrayList<>();
+        private final List<String> courseCodes = new ArrayList<>();
+
+        // 번호 → 정렬된 상대편 번호 배열
+        private final Map<Integer, int[]> coursesByStudent = new ConcurrentHashMap<>();
+        private final Map<Integer, int[]> studentsByCourse = new ConcurrentHashMap<>();
+
+        boolean contains(String studentId, String courseCode) {
+            Integer student = studentNumbers.get(studentId);
+            Integer course = courseNumbers.get(courseCode);
+            if (student == null || course == null) {
+                return false;
+            }
+            return Arrays.binarySearch(coursesByStudent.getOrDefault(student, EMPTY), course) >= 0;
+        }
+
+        List<String> courseCodesOf(String studentId) {
+            Integer student = studentNumbers.get(studentId);
+            if (student == null) {
+                return List.of();
+            }
+            return names(coursesByStudent.getOrDefault(student, EMPTY), courseCodes);
+        }
+
+        List<String> studentIdsOf(String courseCode) {
+            Integer course = courseNumbers.get(courseCode);
+            if (course == null) {
+                return List.of();
+            }
+            return names(studentsByCourse.getOrDefault(course, EMPTY), studentIds);
+        }
+
+        void add(String studentId, String courseCode) {
+            int student = number(studentId, studentNumbers, studentIds);
+            int course = number(courseCode, courseNumbers, courseCodes);
+            coursesByStudent.put(student, insert(coursesByStudent.getOrDefault(student, EMPTY), course));
+            studentsByCourse.put(course, insert(studentsByCourse.getOrDefault(course, EMPTY), student));
+        }
+
+        void remove(String studentId, String courseCode) {
+            Integer student = studentNumbers.get(studentId);
+            Integer course = courseNumbers.get(courseCode);
+            if (student == null || course == null) {
+                return;
+            }
+            coursesByStudent.put(student, delete(coursesByStudent.getOrDefault(student, EMPTY), course));
+            studentsByCourse.put(course, delete(studentsByCourse.getOrDefault(course, EMPTY), student));
+        }
+
+        void removeCourse(String courseCode) {
+            Integer course = courseNumbers.get(courseCode);
+            if (course == null) {
+                return;
+            }
+            int[] students = studentsByCourse.getOrDefault(course, EMPTY);
+            for (int student : students) {
+                coursesByStudent.put(student, delete(coursesByStudent.getOrDefault(student, EMPTY), course));
+            }
+            studentsByCourse.remove(course);
+        }
+
+        private static int number(String key, Map<String, Integer> numbers, List<String> names) {
+            Integer number = numbers.get(key);
+            if (number == null) {
+                synchronized (names) {
+                    number = names.size();
+                    names.add(key);
+                }
+                numbers.put(key, number);
+            }
+            return number;
+        }
+
+        private static List<String> names(int[] numbers, List<String> names) {
+            List<String> result = new ArrayList<>(numbers.length);
+            synchronized (names) {
+                for (int number : numbers) {
+                    result.add(names.get(number));
+                }
+            }
+            return result;
+        }
+
+        // 정렬 유지하면서 추가한 새 배열 (이미 있으면 그대로)
+        private static int[] insert(int[] values, int value) {
+            int position = Arrays.binarySearch(values, value);
+            if (position >= 0) {
+                return values;
+            }
+            position = -position - 1;
+            int[] result = new int[values.length + 1];
+            System.arraycopy(values, 0, result, 0, position);
+            result[position] = value;
+            System.arraycopy(values, position, result, position + 1, values.length - position);
+            return result;
+        }
+
+        private static int[] delete(int[] values, int value) {
+            int position = Arrays.binarySearch(values, value);
+            if (position < 0) {
+                return values;
+            }
+            int[] result = new int[values.length - 1];
+            System.arraycopy(values, 0, result, 0, position);
+            System.arraycopy(values, position + 1, result, position, values.length - position - 1);
+            return result;
+        }
+    }
+}
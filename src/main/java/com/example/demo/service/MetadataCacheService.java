@@ -0,0 +1,231 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.repository.AssignmentRepository;
+import com.example.demo.repository.CourseRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 강의 / 과제 메타데이터 캐시 (읽기 시 적재, 크기 제한 LRU)
+ * 마감일 확인, 수강 확인, 권한 확인처럼 이름/코드/담당 교수/마감일만 필요한 곳에서 엔티티 조회 대신 사용
+ *
+ * - 엔티티가 아닌 변경 불가능한 요약 정보만 보관 (요청 간에 공유해도 안전)
+ * - 과제 수정/삭제, 강의 삭제, 부교수 변경 시 커밋 이후에 해당 항목 제거
+ * - 조회 중에 제거가 일어나면 조회 결과를 저장하지 않음 (이전 데이터로 다시 채워지는 것 방지)
+ */
+@Service
+@Transactional(readOnly = true)
+public class MetadataCacheService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Value("${metadata.cache.course-max-size:1000}")
+    private int courseMaxSize;
+
+    @Value("${metadata.cache.assignment-max-size:5000}")
+    private int assignmentMaxSize;
+
+    private LruCache<String, CourseInfo> courses;
+    private LruCache<Integer, AssignmentInfo> assignments;
+
+    @PostConstruct
+    public void init() {
+        courses = new LruCache<>("course", courseMaxSize);
+        assignments = new LruCache<>("assignment", assignmentMaxSize);
+    }
+
+    // 강의 요약 정보 (없거나 삭제된 강의면 null)
+    public CourseInfo getCourse(String courseCode) {
+        if (courseCode == null) {
+            return null;
+        }
+        return courses.get(courseCode, code -> {
+            Course course = courseRepository.findByCourseCode(code);
+            return course == null ? null : new CourseInfo(course);
+        });
+    }
+
+    // 과제 요약 정보 (없으면 null)
+    public AssignmentInfo getAssignment(int assignmentCode) {
+        return assignments.get(assignmentCode, code -> assignmentRepository.findById(code)
+                .map(AssignmentInfo::new)
+                .orElse(null));
+    }
+
+    // === 무효화 (커밋 이후) ===
+
+    public void evictCourse(String courseCode) {
+        afterCommit(() -> courses.remove(courseCode));
+    }
+
+    public void evictAssignment(int assignmentCode) {
+        afterCommit(() -> assignments.remove(assignmentCode));
+    }
+
+    public void evictAssignments(Collection<Integer> assignmentCodes) {
+        List<Integer> codes = List.copyOf(assignmentCodes);
+        afterCommit(() -> codes.forEach(assignments::remove));
+    }
+
+    // 캐시 적중률 (관리자 화면용)
+    public List<CacheStats> getStats() {
+        return List.of(courses.stats(), assignments.stats());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 강의 요약 정보
+    @Getter
+    public static class CourseInfo {
+        private final String courseCode;
+        private final String courseName;
+        private final String professorId;
+        private final List<String> subProfessors;
+
+        public CourseInfo(Course course) {
+            this.courseCode = course.getCourseCode();
+            this.courseName = course.getCourseName();
+            this.professorId = course.getProfessorId();
+            this.subProfessors = course.getSubProfessors() == null ? List.of() : List.copyOf(course.getSubProfessors());
+        }
+
+        public boolean isTaughtBy(String professorId) {
+            return professorId != null && (professorId.equals(this.professorId) || subProfessors.contains(professorId));
+        }
+    }
+
+    // 과제 요약 정보
+    @Getter
+    public static class AssignmentInfo {
+        private final int assignmentCode;
+        private final String courseCode;
+        private final String title;
+        private final LocalDateTime dueDate;
+
+        public AssignmentInfo(Assignment assignment) {
+            this.assignmentCode = assignment.getAssignmentCode();
+            this.courseCode = assignment.getCourseCode();
+            this.title = assignment.getTitle();
+            this.dueDate = assignment.getDueDate();
+        }
+
+        public boolean isOverdue(LocalDateTime time) {
+            return dueDate != null && dueDate.isBefore(time);
+        }
+    }
+
+    // 캐시 통계
+    @Getter
+    public static class CacheStats {
+        private final String name;
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final double hitRate;
+
+        public CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions) {
+            this.name = name;
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+    }
+
+    /**
+     * 접근 순서 기준 LRU (크기를 넘으면 가장 오래 쓰지 않은 항목 제거)
+     * 적재(DB 조회)는 잠금 밖에서 실행
+     */
+    private static class LruCache<K, V> {
+        private final String name;
+        private final int maxSize;
+        private final LinkedHashMap<K, V> entries;
+
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long removals;   // 무효화 횟수 (조회 중 무효화 감지용)
+
+        LruCache(String name, int maxSize) {
+            this.name = name;
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > LruCache.this.maxSize) {
+                        evictions++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        V get(K key, Function<K, V> loader) {
+            long removalsBefore;
+            synchronized (this) {
+                V value = entries.get(key);
+                if (value != null) {
+                    hits++;
+                    return value;
+                }
+                misses++;
+                removalsBefore = removals;
+            }
+
+            V loaded = loader.apply(key);
+            if (loaded != null) {
+                synchronized (this) {
+                    if (removals == removalsBefore) {
+                        entries.put(key, loaded);
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        synchronized void remove(K key) {
+            removals++;
+            entries.remove(key);
+        }
+
+        synchronized CacheStats stats() {
+            return new CacheStats(name, entries.size(), maxSize, hits, misses, evictions);
+        }
+    }
+}
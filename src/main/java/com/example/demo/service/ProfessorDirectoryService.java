@@ -0,0 +1,100 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.ProfessorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 교수 ID → 이름 목록 (메모리)
+ * 답변 작성자 이름 표시에 Professor 엔티티(비밀번호 해시 포함)를 조회하지 않도록 사용
+ *
+ * - 시작 시 ID, 이름 두 컬럼만 적재
+ * - 회원가입/승인/승인 취소 시 갱신, 가입 거부(삭제) 시 제거 (커밋 이후)
+ * - 목록에 없는 ID는 이름 컬럼만 조회해서 채움 (다른 인스턴스에서 가입한 교수 등)
+ */
+@Service
+public class ProfessorDirectoryService {
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            List<Object[]> rows = professorRepository.findAllIdAndName();
+            for (Object[] row : rows) {
+                put((String) row[0], (String) row[1]);
+            }
+            System.out.println("교수 이름 목록 적재 완료: " + rows.size() + "명");
+        } catch (Exception e) {
+            System.err.println("교수 이름 목록 적재 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 교수 이름 (없는 교수면 null)
+    public String getName(String professorId) {
+        if (professorId == null) {
+            return null;
+        }
+        String name = names.get(professorId);
+        if (name == null) {
+            name = professorRepository.findNameByProfessorId(professorId);
+            put(professorId, name);
+        }
+        return name;
+    }
+
+    // 여러 교수의 이름 (화면 모델용)
+    public Map<String, String> getNames(Collection<String> professorIds) {
+        Map<String, String> result = new HashMap<>();
+        for (String professorId : professorIds) {
+            String name = getName(professorId);
+            if (name != null) {
+                result.put(professorId, name);
+            }
+        }
+        return result;
+    }
+
+    // 회원가입/승인/승인 취소 (승인 여부와 관계없이 이전 답변의 작성자 이름은 계속 표시)
+    public void professorSaved(String professorId, String name) {
+        afterCommit(() -> put(professorId, name));
+    }
+
+    // 가입 거부로 삭제된 교수
+    public void professorRemoved(String professorId) {
+        afterCommit(() -> names.remove(professorId));
+    }
+
+    private void put(String professorId, String name) {
+        if (professorId != null && name != null) {
+            names.put(professorId, name);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.AssignmentSummaryDTO;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.QuestionSummaryDTO;
+import com.example.demo.dto.SubmissionSummaryDTO;
 import com.example.demo.repository.*;
 import com.example.demo.util.XSSUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +19,10 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -43,14 +52,49 @@ public class ProfessorService {
     @Autowired
     private ProfessorRepository professorRepository;
 
+    @Autowired
+    private CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    private CoursePurgeService coursePurgeService;
+
+    @Autowired
+    private BlobStorageService blobStorageService;
+
+    @Autowired
+    private StudentDashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    @Autowired
+    private ProfessorDirectoryService professorDirectoryService;
+
     // 교수의 과제 목록 조회
     public List<Assignment> getProfessorAssignments(String professorId) {
         return assignmentRepository.findByProfessorIdOrSubProfessorsId(professorId);
     }
 
-    // 특정 과제의 제출물 목록 조회
-    public List<Submission> getAssignmentSubmissions(int assignmentCode) {
-        return submissionRepository.findByAssignmentCode(assignmentCode);
+    // 교수의 과제 목록 페이지 (최근 생성 순, cursor가 없으면 첫 페이지, 제출/질문 수 포함)
+    public CursorPage<AssignmentSummaryDTO> getProfessorAssignmentsPage(String professorId, String cursor, Integer size) {
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        int limit = CursorPage.limit(size);
+
+        List<AssignmentSummaryDTO> assignments = assignmentRepository.findSummaryPageByProfessorId(professorId,
+                after == null ? null : after.getTime(),
+                after == null ? null : after.getIntKey(),
+                PageRequest.ofSize(limit + 1));
+
+        return CursorPage.of(assignments, limit,
+                assignment -> CursorPage.encode(assignment.getCreatedDate(), assignment.getAssignmentCode()));
+    }
+
+    // 특정 과제의 제출물 목록 조회 (목록용 요약, 학생 이름은 조인으로 함께 조회)
+    public List<SubmissionSummaryDTO> getAssignmentSubmissions(int assignmentCode) {
+        return submissionRepository.findSummariesByAssignmentCode(assignmentCode);
     }
 
     // 과제 상세 정보 조회
@@ -81,7 +125,7 @@ public class ProfessorService {
                 throw new RuntimeException("피드백이 너무 깁니다. (최대 1,000자)");
             }
 
-            feedback = XSSUtils.sanitizeInput(feedback.trim());
+            feedback = XSSUtils.sanitizeTrimmed(feedback);
         }
 
         submission.setScore(score);
@@ -89,57 +133,110 @@ public class ProfessorService {
         submission.setLastModifiedDate(LocalDateTime.now());
 
         submissionRepository.save(submission);
+        dashboardSnapshotService.submissionSaved(submission);
     }
 
     // 교수의 질문 목록 조회
     public List<Question> getProfessorQuestions(String professorId) {
-        // 교수가 담당하는 과제들의 질문 조회
-        List<Assignment> assignments = getProfessorAssignments(professorId);
-        List<Question> allQuestions = new java.util.ArrayList<>();
-
-        for (Assignment assignment : assignments) {
-            List<Question> questions = questionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-            // 각 질문에 대한 답변도 로드
-            for (Question question : questions) {
-                List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-                question.setAnswers(answers);
-            }
-            allQuestions.addAll(questions);
-        }
+        return getProfessorQuestions(professorId, false);
+    }
 
-        return allQuestions;
+    // 교수의 질문 목록 조회 (unansweredOnly = true 이면 답변 대기 질문만)
+    public List<Question> getProfessorQuestions(String professorId, boolean unansweredOnly) {
+        List<Question> questions = questionRepository.findInboxByProfessorId(professorId, unansweredOnly);
+        loadAnswers(questions, unansweredOnly);
+        return questions;
     }
 
     // 특정 과제의 질문 목록 조회
     public List<Question> getAssignmentQuestions(int assignmentCode) {
-        List<Question> questions = questionRepository.findByAssignmentCode(assignmentCode);
-
-        // 각 질문에 대한 답변도 함께 로드
-        for (Question question : questions) {
-            List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-            question.setAnswers(answers);
-        }
+        return getAssignmentQuestions(assignmentCode, false);
+    }
 
+    public List<Question> getAssignmentQuestions(int assignmentCode, boolean unansweredOnly) {
+        List<Question> questions = questionRepository.findInboxByAssignmentCode(assignmentCode, unansweredOnly);
+        loadAnswers(questions, unansweredOnly);
         return questions;
     }
 
     // 특정 수업의 질문 목록 조회
     public List<Question> getCourseQuestions(String courseCode) {
-        List<Assignment> assignments = assignmentRepository.findByCourseCode(courseCode);
-        List<Question> allQuestions = new ArrayList<>();
+        return getCourseQuestions(courseCode, false);
+    }
 
-        for (Assignment assignment : assignments) {
-            List<Question> questions = questionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-            allQuestions.addAll(questions);
+    public List<Question> getCourseQuestions(String courseCode, boolean unansweredOnly) {
+        List<Question> questions = questionRepository.findInboxByCourseCode(courseCode, unansweredOnly);
+        loadAnswers(questions, unansweredOnly);
+        return questions;
+    }
+
+    // 질문함 페이지 (최근 질문 순, 과제 > 강의 > 교수 전체 순서로 필터 적용, 목록용 요약)
+    public CursorPage<QuestionSummaryDTO> getQuestionInboxPage(String professorId, String courseCode, Integer assignmentCode,
+                                                               boolean unansweredOnly, String cursor, Integer size) {
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        int limit = CursorPage.limit(size);
+        LocalDateTime afterTime = after == null ? null : after.getTime();
+        int afterCode = after == null ? 0 : after.getIntKey();
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+
+        List<QuestionSummaryDTO> questions;
+        if (assignmentCode != null) {
+            questions = questionRepository.findInboxPageByAssignmentCode(assignmentCode, unansweredOnly, afterTime, afterCode, pageable);
+        } else if (courseCode != null && !courseCode.isEmpty()) {
+            questions = questionRepository.findInboxPageByCourseCode(courseCode, unansweredOnly, afterTime, afterCode, pageable);
+        } else {
+            questions = questionRepository.findInboxPageByProfessorId(professorId, unansweredOnly, afterTime, afterCode, pageable);
+        }
+
+        CursorPage<QuestionSummaryDTO> page = CursorPage.of(questions, limit,
+                question -> CursorPage.encode(question.getQuestionTime(), question.getQuestionCode()));
+        if (!unansweredOnly) {
+            loadFirstAnswers(page.getItems());
+        }
+        return page;
+    }
+
+    // 질문함 목록의 첫 답변(작성 교수, 미리보기)을 IN 쿼리 1회로 조회해서 설정
+    // 답변 교수 이름은 ProfessorDirectoryService에서 조회하므로 Professor는 로드하지 않음
+    private void loadFirstAnswers(List<QuestionSummaryDTO> questions) {
+        if (questions.isEmpty()) {
+            return;
         }
 
-        // 각 질문에 대한 답변도 함께 로드
-        for (Question question : allQuestions) {
-            List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-            question.setAnswers(answers);
+        Map<Integer, QuestionSummaryDTO> byCode = new HashMap<>();
+        for (QuestionSummaryDTO question : questions) {
+            byCode.put(question.getQuestionCode(), question);
         }
 
-        return allQuestions;
+        // 답변 시간 오름차순이므로 질문별로 처음 나온 행이 첫 답변
+        for (Object[] row : answerRepository.findPreviewsByQuestionCodeIn(byCode.keySet())) {
+            QuestionSummaryDTO question = byCode.get((Integer) row[0]);
+            if (!question.isAnswered()) {
+                question.setFirstAnswer(professorDirectoryService.getName((String) row[1]), (String) row[2]);
+            }
+        }
+    }
+
+    // 질문 목록의 답변을 IN 쿼리 1회로 로드하여 질문별로 묶어서 설정
+    // 답변 대기 질문만 조회한 경우에는 답변이 없으므로 쿼리를 생략
+    private void loadAnswers(List<Question> questions, boolean unansweredOnly) {
+        if (questions.isEmpty() || unansweredOnly) {
+            for (Question question : questions) {
+                question.setAnswers(new ArrayList<>());
+            }
+            return;
+        }
+
+        List<Integer> questionCodes = questions.stream()
+                .map(Question::getQuestionCode)
+                .collect(Collectors.toList());
+
+        Map<Integer, List<Answer>> answersByQuestion = answerRepository.findByQuestionCodeInWithProfessor(questionCodes).stream()
+                .collect(Collectors.groupingBy(Answer::getQuestionCode));
+
+        for (Question question : questions) {
+            question.setAnswers(answersByQuestion.getOrDefault(question.getQuestionCode(), new ArrayList<>()));
+        }
     }
 
     // 질문 상세 정보 조회
@@ -213,6 +310,8 @@ public class ProfessorService {
         // 부교수 추가
         course.getSubProfessors().add(professorId);
         courseRepository.save(course);
+        courseRepository.adjustSubProfessorCount(courseCode, 1);
+        metadataCacheService.evictCourse(courseCode);
     }
 
     // 부교수 제거 (자신만 제거 가능)
@@ -230,6 +329,8 @@ public class ProfessorService {
 
         course.getSubProfessors().remove(professorId);
         courseRepository.save(course);
+        courseRepository.adjustSubProfessorCount(courseCode, -1);
+        metadataCacheService.evictCourse(courseCode);
     }
 
     // 강의 상세 정보 조회
@@ -274,45 +375,10 @@ public class ProfessorService {
         return assignmentRepository.findByCourseCode(courseCode);
     }
 
-    // 강의 삭제 (과제, 제출물, 질문, 답변, 수강신청 모두 삭제)
+    // 강의 삭제 (삭제 표시 후 즉시 반환, 과제/제출물/질문/답변/수강신청은 백그라운드에서 정리)
     @Transactional
     public void deleteCourse(String courseCode) {
-        // 1. 강의의 모든 과제 조회
-        List<Assignment> assignments = assignmentRepository.findByCourseCode(courseCode);
-
-        for (Assignment assignment : assignments) {
-            // 2. 각 과제의 모든 제출물 삭제
-            List<Submission> submissions = submissionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-            if (!submissions.isEmpty()) {
-                submissionRepository.deleteAll(submissions);
-            }
-
-            // 3. 각 과제의 모든 질문과 답변 삭제
-            List<Question> questions = questionRepository.findByAssignmentCode(assignment.getAssignmentCode());
-            for (Question question : questions) {
-                List<Answer> answers = answerRepository.findByQuestionCode(question.getQuestionCode());
-                if (!answers.isEmpty()) {
-                    answerRepository.deleteAll(answers);
-                }
-            }
-            if (!questions.isEmpty()) {
-                questionRepository.deleteAll(questions);
-            }
-        }
-
-        // 4. 모든 과제 삭제
-        if (!assignments.isEmpty()) {
-            assignmentRepository.deleteAll(assignments);
-        }
-
-        // 5. 수강신청 정보 삭제
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseCode(courseCode);
-        if (!enrollments.isEmpty()) {
-            enrollmentRepository.deleteAll(enrollments);
-        }
-
-        // 6. 강의 삭제
-        courseRepository.deleteById(courseCode);
+        coursePurgeService.markDeleted(courseCode);
     }
 
     // 수강생을 강의에서 제외
@@ -328,6 +394,7 @@ public class ProfessorService {
         for (Assignment assignment : assignments) {
             submissionRepository.findByAssignmentCodeAndStudentId(assignment.getAssignmentCode(), studentId)
                     .ifPresent(submission -> {
+                        blobStorageService.release(submission.getFileHash());
                         submissionRepository.delete(submission);
                     });
 
@@ -346,6 +413,18 @@ public class ProfessorService {
 
         // 4. 수강신청 정보 삭제
         enrollmentRepository.deleteByStudentIdAndCourseCode(studentId, courseCode);
+        courseRepository.adjustStudentCount(courseCode, -1);
+        enrollmentIndexService.unenrolled(studentId, courseCode);
+        dashboardSnapshotService.enrollmentChanged(studentId);
+    }
+
+    // 과제 생성 (강의의 과제 수도 같은 트랜잭션에서 갱신)
+    @Transactional
+    public Assignment createAssignment(Assignment assignment) {
+        Assignment saved = assignmentRepository.save(assignment);
+        courseRepository.adjustAssignmentCount(saved.getCourseCode(), 1);
+        dashboardSnapshotService.assignmentsChanged(saved.getCourseCode());
+        return saved;
     }
 
     // 과제 정보 수정 (XSS 방어 추가)
@@ -395,14 +474,26 @@ public class ProfessorService {
                 throw new RuntimeException("마감일은 현재 시간보다 이후여야 합니다.");
             }
 
+            // 강의가 변경된 경우 과제 수 이동
+            String previousCourseCode = assignment.getCourseCode();
+            if (!courseCode.equals(previousCourseCode)) {
+                courseRepository.adjustAssignmentCount(previousCourseCode, -1);
+                courseRepository.adjustAssignmentCount(courseCode, 1);
+            }
+
             // 과제 정보 업데이트 (XSS 정제된 값으로)
             assignment.setCourseCode(courseCode);
             assignment.setCourse(course);
-            assignment.setTitle(XSSUtils.sanitizeInput(title.trim()));
-            assignment.setContent(XSSUtils.sanitizeInput(content.trim()));
+            assignment.setTitle(XSSUtils.sanitizeTrimmed(title));
+            assignment.setContent(XSSUtils.sanitizeTrimmed(content));
             assignment.setDueDate(dueDateTime);
 
             assignmentRepository.save(assignment);
+            metadataCacheService.evictAssignment(assignmentCode);
+            dashboardSnapshotService.assignmentsChanged(previousCourseCode);
+            if (!courseCode.equals(previousCourseCode)) {
+                dashboardSnapshotService.assignmentsChanged(courseCode);
+            }
 
         } catch (DateTimeParseException e) {
             throw new RuntimeException("날짜 또는 시간 형식이 올바르지 않습니다.");
@@ -412,29 +503,7 @@ public class ProfessorService {
     // 과제 삭제 (제출물, 질문, 답변 모두 삭제)
     @Transactional
     public void deleteAssignment(int assignmentCode) {
-        Assignment assignment = assignmentRepository.findById(assignmentCode)
-                .orElseThrow(() -> new RuntimeException("과제를 찾을 수 없습니다."));
-
-        // 1. 모든 제출물 삭제
-        List<Submission> submissions = submissionRepository.findByAssignmentCode(assignmentCode);
-        if (!submissions.isEmpty()) {
-            submissionRepository.deleteAll(submissions);
-        }
-
-        // 2. 모든 질문과 답변 삭제
-        List<Question> questions = questionRepository.findByAssignmentCode(assignmentCode);
-        for (Question question : questions) {
-            List<Answer> answers = answerRepository.findByQuestionCode(question.getQuestionCode());
-            if (!answers.isEmpty()) {
-                answerRepository.deleteAll(answers);
-            }
-        }
-        if (!questions.isEmpty()) {
-            questionRepository.deleteAll(questions);
-        }
-
-        // 3. 과제 삭제
-        assignmentRepository.delete(assignment);
+        cascadeDeleteService.deleteAssignment(assignmentCode);
     }
 
 
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.domain.Student;
+import com.example.demo.dto.StudentDashboard;
+import com.example.demo.dto.SubmissionSummaryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 학생 메인 페이지 대시보드 구성
+ * 서로 독립적인 조회(수강 과목, 미제출 과제, 제출물)를 제한된 스레드 풀에서 동시에 실행하고,
+ * 각 조회는 자체 읽기 전용 트랜잭션에서 필요한 연관 엔티티까지 모두 로드
+ * 구역별 제한 시간을 넘기거나 실패한 구역(스레드 풀이 가득 차 거절된 경우 포함)은 빈 목록으로 표시하고 나머지는 정상 표시
+ * 제한 시간을 넘긴 조회는 트랜잭션 타임아웃(JDBC 쿼리 타임아웃)으로 중단되어 스레드와 커넥션을 돌려줌
+ */
+@Service
+public class StudentDashboardService {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private Executor dashboardExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StudentDashboardSnapshotService snapshotService;
+
+    @Value("${dashboard.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
+
+    // 학생 메인 페이지 대시보드 (스냅샷이 최신이면 조회 없이 반환)
+    public StudentDashboard getDashboard(Student student) {
+        return snapshotService.getDashboard(student, sections -> getSections(student, sections));
+    }
+
+    // 지정한 구역만 조회 (요청하지 않은 구역은 빈 목록, 스냅샷의 오래된 구역 갱신용)
+    public StudentDashboard getSections(Student student, Set<String> sections) {
+        String studentId = student.getStudentId();
+
+        CompletableFuture<List<Course>> courses = sections.contains(StudentDashboard.COURSES)
+                ? submit(() -> studentService.getEnrolledCourses(studentId)) : null;
+        CompletableFuture<List<Assignment>> assignments = sections.contains(StudentDashboard.ASSIGNMENTS)
+                ? submit(() -> studentService.getUnsubmittedAssignments(studentId)) : null;
+        CompletableFuture<List<SubmissionSummaryDTO>> submissions = sections.contains(StudentDashboard.SUBMISSIONS)
+                ? submit(() -> studentService.getStudentSubmissions(studentId)) : null;
+
+        StudentDashboard dashboard = new StudentDashboard();
+        dashboard.setStudent(student);
+
+        // 제한 시간은 요청 시작 시점부터 공통으로 계산 (구역 수만큼 늘어나지 않음)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        collect(courses, deadline, StudentDashboard.COURSES, dashboard, dashboard::setCourses);
+        collect(assignments, deadline, StudentDashboard.ASSIGNMENTS, dashboard, dashboard::setAssignments);
+        collect(submissions, deadline, StudentDashboard.SUBMISSIONS, dashboard, dashboard::setSubmissions);
+
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> query) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // CompletableFuture.cancel은 실행 중인 조회를 중단하지 않으므로 트랜잭션 타임아웃으로 쿼리를 끊음 (초 단위, 올림)
+        readOnly.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> query.get()), dashboardExecutor);
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀과 큐가 가득 찬 경우 (해당 구역만 조회 불가로 표시)
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> void collect(CompletableFuture<List<T>> future, long deadline, String section,
+                             StudentDashboard dashboard, Consumer<List<T>> setter) {
+        if (future == null) {
+            return;
+        }
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            setter.accept(future.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dashboard.getUnavailableSections().add(section);
+        } catch (Exception e) {
+            future.cancel(true);
+            System.err.println("Dashboard section '" + section + "' unavailable: " + e);
+            dashboard.getUnavailableSections().add(section);
+        }
+    }
+}
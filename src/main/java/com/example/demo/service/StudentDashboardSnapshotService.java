@@ -0,0 +1,239 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.domain.Student;
+import com.example.demo.domain.Submission;
+import com.example.demo.dto.StudentDashboard;
+import com.example.demo.dto.SubmissionSummaryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 학생별 대시보드 스냅샷 (메모리 저장)
+ * 학생 메인 페이지는 스냅샷이 최신이면 키 조회 한 번으로 끝나고, 데이터가 바뀔 때마다 전체를 다시 계산하지 않음
+ *
+ * 변경 이벤트는 트랜잭션 커밋 이후에 반영
+ * - 제출/수정/채점: 스냅샷의 제출물 목록과 미제출 과제 목록을 직접 갱신
+ * - 제출물 삭제, 수강 등록/해제, 과제 생성/수정/삭제, 강의 삭제: 영향받는 구역만 오래된 것으로 표시하고
+ *   다음 방문 때 그 구역만 다시 조회
+ * 스냅샷마다 버전을 두어, 조회 중에 이벤트가 들어오면 조회 결과를 저장하지 않음 (이전 데이터로 덮어쓰기 방지)
+ * 조회 자체는 StudentDashboardService가 담당 (이 클래스는 저장소와 이벤트 처리만 담당)
+ * 서버 인스턴스별 저장소이므로 여러 인스턴스로 운영할 경우 이벤트가 다른 인스턴스에 전달되지 않음
+ */
+@Service
+public class StudentDashboardSnapshotService {
+
+    @Value("${dashboard.snapshot.idle-minutes:30}")
+    private long idleMinutes;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 스냅샷 조회 (없거나 오래된 구역은 loader로 조회해서 채움)
+    public StudentDashboard getDashboard(Student student, Function<Set<String>, StudentDashboard> loader) {
+        String studentId = student.getStudentId();
+
+        Snapshot current = snapshots.computeIfAbsent(studentId, id -> Snapshot.empty());
+        current.touch();
+        if (current.isFresh()) {
+            return current.dashboard;
+        }
+
+        // 오래된 구역만 다시 조회해서 기존 스냅샷과 합침
+        Set<String> sections = current.staleSections;
+        StudentDashboard loaded = loader.apply(sections);
+        StudentDashboard merged = merge(current.dashboard, loaded, sections);
+        merged.setStudent(student);
+
+        snapshots.computeIfPresent(studentId, (id, snapshot) -> {
+            if (snapshot.version != current.version) {
+                return snapshot;   // 조회 중에 변경됨 → 다음 방문 때 다시 조회
+            }
+            // 시간 초과 등으로 불러오지 못한 구역은 계속 오래된 것으로 유지
+            return new Snapshot(snapshot.version, merged, Set.copyOf(loaded.getUnavailableSections()));
+        });
+        return merged;
+    }
+
+    // === 변경 이벤트 (커밋 이후 반영) ===
+
+    // 제출, 채점
+    public void submissionSaved(Submission submission) {
+        String studentId = submission.getStudentId();
+        SubmissionSummaryDTO summary = new SubmissionSummaryDTO(submission);
+        afterCommit(() -> update(studentId, dashboard -> {
+            List<SubmissionSummaryDTO> submissions = new ArrayList<>(dashboard.getSubmissions());
+            submissions.removeIf(s -> s.getSubmissionCode() == submission.getSubmissionCode());
+            submissions.add(summary);
+            dashboard.setSubmissions(List.copyOf(submissions));
+
+            dashboard.setAssignments(dashboard.getAssignments().stream()
+                    .filter(a -> a.getAssignmentCode() != submission.getAssignmentCode())
+                    .toList());
+        }));
+    }
+
+    // 제출물 삭제 (다시 미제출 과제가 되므로 과제 목록은 다음 방문 때 조회)
+    public void submissionDeleted(String studentId, int submissionCode) {
+        afterCommit(() -> {
+            update(studentId, dashboard -> dashboard.setSubmissions(dashboard.getSubmissions().stream()
+                    .filter(s -> s.getSubmissionCode() != submissionCode)
+                    .toList()));
+            invalidate(studentId, Set.of(StudentDashboard.ASSIGNMENTS));
+        });
+    }
+
+    // 수강 등록/해제, 강의에서 제외
+    public void enrollmentChanged(String studentId) {
+        afterCommit(() -> invalidate(studentId, StudentDashboard.SECTIONS));
+    }
+
+    // 과제 생성/수정/삭제 (해당 강의를 수강하는 학생의 과제/제출물 구역)
+    public void assignmentsChanged(String courseCode) {
+        afterCommit(() -> invalidateCourse(courseCode,
+                Set.of(StudentDashboard.ASSIGNMENTS, StudentDashboard.SUBMISSIONS)));
+    }
+
+    // 강의 삭제
+    public void courseRemoved(String courseCode) {
+        afterCommit(() -> invalidateCourse(courseCode, StudentDashboard.SECTIONS));
+    }
+
+    // 오래 방문하지 않은 학생의 스냅샷 제거 (메모리 사용량 제한)
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.cleanup-interval-ms:600000}")
+    public void evictIdle() {
+        long idleBefore = System.nanoTime() - TimeUnit.MINUTES.toNanos(idleMinutes);
+        snapshots.values().removeIf(snapshot -> snapshot.lastAccess - idleBefore < 0);
+    }
+
+    private void update(String studentId, Consumer<StudentDashboard> patch) {
+        snapshots.computeIfPresent(studentId, (id, snapshot) -> {
+            if (snapshot.dashboard == null) {
+                return snapshot.nextVersion(snapshot.staleSections);
+            }
+            StudentDashboard dashboard = copy(snapshot.dashboard);
+            patch.accept(dashboard);
+            return snapshot.next(dashboard, snapshot.staleSections);
+        });
+    }
+
+    private void invalidate(String studentId, Set<String> sections) {
+        snapshots.computeIfPresent(studentId, (id, snapshot) -> snapshot.nextVersion(union(snapshot.staleSections, sections)));
+    }
+
+    private void invalidateCourse(String courseCode, Set<String> sections) {
+        // 스냅샷이 아직 없는(조회 중인) 학생도 수강 여부를 알 수 없으므로 버전을 올려 저장을 막음
+        snapshots.replaceAll((id, snapshot) -> snapshot.dashboard == null || containsCourse(snapshot.dashboard, courseCode)
+                ? snapshot.nextVersion(union(snapshot.staleSections, sections))
+                : snapshot);
+    }
+
+    private boolean containsCourse(StudentDashboard dashboard, String courseCode) {
+        for (Course course : dashboard.getCourses()) {
+            if (courseCode.equals(course.getCourseCode())) {
+                return true;
+            }
+        }
+        // 강의 구역을 불러오지 못한 스냅샷은 과제 목록으로도 확인
+        for (Assignment assignment : dashboard.getAssignments()) {
+            if (courseCode.equals(assignment.getCourseCode())) {
+                return true;
+            }
+        }
+        return !dashboard.isComplete();
+    }
+
+    private StudentDashboard merge(StudentDashboard base, StudentDashboard loaded, Set<String> sections) {
+        StudentDashboard merged = base == null ? new StudentDashboard() : copy(base);
+        if (sections.contains(StudentDashboard.COURSES)) {
+            merged.setCourses(List.copyOf(loaded.getCourses()));
+        }
+        if (sections.contains(StudentDashboard.ASSIGNMENTS)) {
+            merged.setAssignments(List.copyOf(loaded.getAssignments()));
+        }
+        if (sections.contains(StudentDashboard.SUBMISSIONS)) {
+            merged.setSubmissions(List.copyOf(loaded.getSubmissions()));
+        }
+        merged.getUnavailableSections().addAll(loaded.getUnavailableSections());
+        return merged;
+    }
+
+    private StudentDashboard copy(StudentDashboard source) {
+        StudentDashboard copy = new StudentDashboard();
+        copy.setStudent(source.getStudent());
+        copy.setCourses(source.getCourses());
+        copy.setAssignments(source.getAssignments());
+        copy.setSubmissions(source.getSubmissions());
+        return copy;
+    }
+
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        Set<String> result = new HashSet<>(a);
+        result.addAll(b);
+        return Set.copyOf(result);
+    }
+
+    // 롤백된 변경이 스냅샷에 반영되지 않도록 커밋 이후에 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 스냅샷 (dashboard가 null이면 아직 한 번도 조회하지 않은 상태)
+    private static class Snapshot {
+        private final long version;
+        private final StudentDashboard dashboard;
+        private final Set<String> staleSections;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Snapshot(long version, StudentDashboard dashboard, Set<String> staleSections) {
+            this.version = version;
+            this.dashboard = dashboard;
+            this.staleSections = staleSections;
+        }
+
+        private static Snapshot empty() {
+            return new Snapshot(0, null, StudentDashboard.SECTIONS);
+        }
+
+        private Snapshot nextVersion(Set<String> staleSections) {
+            return next(dashboard, staleSections);
+        }
+
+        private Snapshot next(StudentDashboard dashboard, Set<String> staleSections) {
+            Snapshot next = new Snapshot(version + 1, dashboard, staleSections);
+            next.lastAccess = lastAccess;
+            return next;
+        }
+
+        private boolean isFresh() {
+            return dashboard != null && staleSections.isEmpty();
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
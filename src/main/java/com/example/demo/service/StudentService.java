@@ -1,21 +1,25 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.*;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.QuestionDTO;
-import com.example.demo.dto.SubmissionDTO;
+import com.example.demo.dto.SubmissionSummaryDTO;
 import com.example.demo.repository.*;
 import com.example.demo.util.XSSUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -48,7 +52,28 @@ public class StudentService {
     @Autowired
     private ProfessorRepository professorRepository;
 
+    @Autowired
+    private BlobStorageService blobStorageService;
+
+    // 마감일 비교 기준: 수용 제어 대기열에 접수된 시각 (대기 중 마감이 지나도 기한 내 제출로 처리)
+    @Autowired
+    private SubmissionAdmissionService admissionService;
+
+    @Autowired
+    private StudentDashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @Autowired
+    private MetadataCacheService metadataCacheService;
+
+    @Autowired
+    private ProfessorDirectoryService professorDirectoryService;
+
     // 학생의 수강 과목 목록 조회 (수정됨)
+    // 읽기 전용: 조회한 강의에 과제 목록을 채워 넣어도 flush되지 않음 (flush되면 과제/강의 쿼리 캐시가 무효화됨)
+    @Transactional(readOnly = true)
     public List<Course> getStudentCourses(String studentId) {
         Student student = studentRepository.findByStudentId(studentId);
         if (student == null) {
@@ -103,20 +128,14 @@ public class StudentService {
         }
     }
 
+    // 수강 중인 과목의 과제 중 아직 제출하지 않은 과제 (강의 정보 포함, 쿼리 1회)
     public List<Assignment> getUnsubmittedAssignments(String studentId) {
-        // 1. 학생이 수강 중인 모든 과목의 모든 과제 가져오기
-        List<Assignment> assignments = getStudentAssignments(studentId);
-
-        // 2. 학생이 이미 제출한 과제 목록 가져오기
-        List<Submission> submissions = submissionRepository.findByStudentId(studentId);
-        Set<Integer> submittedAssignmentIds = submissions.stream()
-                .map(Submission::getAssignmentCode) // 수정: getAssignment()를 getAssignmentCode()로 변경
-                .collect(Collectors.toSet());
-
-        // 3. 제출하지 않은 과제만 필터링
-        return assignments.stream()
-                .filter(assignment -> !submittedAssignmentIds.contains(assignment.getAssignmentCode()))
-                .collect(Collectors.toList());
+        return assignmentRepository.findUnsubmittedByStudentId(studentId);
+    }
+
+    // 수강 중인 과목 목록만 조회 (과제 목록 없이, 대시보드용)
+    public List<Course> getEnrolledCourses(String studentId) {
+        return courseRepository.findByStudentId(studentId);
     }
 
     // 특정 과제의 상세 정보 조회
@@ -125,6 +144,15 @@ public class StudentService {
                 .orElseThrow(() -> new RuntimeException("과제를 찾을 수 없습니다."));
     }
 
+    // 과제 요약 정보 (마감일/강의 코드만 필요한 확인용, 캐시에서 조회)
+    private MetadataCacheService.AssignmentInfo getAssignmentInfo(int assignmentCode) {
+        MetadataCacheService.AssignmentInfo assignment = metadataCacheService.getAssignment(assignmentCode);
+        if (assignment == null) {
+            throw new RuntimeException("과제를 찾을 수 없습니다.");
+        }
+        return assignment;
+    }
+
     // 학생의 특정 과제에 대한 제출물 조회
     public Optional<Submission> getSubmission(int assignmentCode, String studentId) {
         return submissionRepository.findByAssignmentCodeAndStudentId(assignmentCode, studentId);
@@ -138,7 +166,7 @@ public class StudentService {
         // 입력값 정제
         String sanitizedContent = XSSUtils.sanitizeInput(content);
 
-        Assignment assignment = getAssignmentDetails(assignmentCode);
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(assignmentCode);
         Student student = studentRepository.findByStudentId(studentId);
 
         if (student == null) {
@@ -146,13 +174,13 @@ public class StudentService {
         }
 
         // 학생이 해당 과제의 수업에 등록되어 있는지 확인
-        boolean isEnrolled = enrollmentRepository.existsByStudentIdAndCourseCode(studentId, assignment.getCourseCode());
+        boolean isEnrolled = enrollmentIndexService.isEnrolled(studentId, assignment.getCourseCode());
         if (!isEnrolled) {
             throw new RuntimeException("해당 수업에 등록되어 있지 않습니다.");
         }
 
         // 마감일 확인
-        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(LocalDateTime.now())) {
+        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(admissionService.acceptedAt())) {
             throw new RuntimeException("과제 제출 기한이 지났습니다.");
         }
 
@@ -166,10 +194,12 @@ public class StudentService {
         submission.setAssignmentCode(assignmentCode);
         submission.setStudentId(studentId);
         submission.setContent(sanitizedContent); // 정제된 내용 저장
-        submission.setSubmissionTime(LocalDateTime.now());
+        submission.setSubmissionTime(admissionService.acceptedAt());
         submission.setLastModifiedDate(LocalDateTime.now());
 
-        return submissionRepository.save(submission);
+        Submission saved = submissionRepository.save(submission);
+        dashboardSnapshotService.submissionSaved(saved);
+        return saved;
     }
 
     // 제출물 수정 메서드 수정
@@ -184,8 +214,8 @@ public class StudentService {
                 .orElseThrow(() -> new RuntimeException("제출물을 찾을 수 없습니다."));
 
         // 마감일 확인
-        Assignment assignment = getAssignmentDetails(submission.getAssignmentCode());
-        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(LocalDateTime.now())) {
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(submission.getAssignmentCode());
+        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(admissionService.acceptedAt())) {
             throw new RuntimeException("과제 제출 기한이 지나 수정할 수 없습니다.");
         }
 
@@ -195,10 +225,28 @@ public class StudentService {
         return submissionRepository.save(submission);
     }
 
-    // 파일과 함께 과제 제출
+    // 파일 저장소에 미리 기록한 파일과 함께 과제 제출 (스트리밍 업로드용, 여기서 참조 수 증가)
     @Transactional
-    public Submission submitAssignmentWithFile(int assignmentCode, String studentId, String content, MultipartFile file) {
-        Assignment assignment = getAssignmentDetails(assignmentCode);
+    public Submission submitAssignmentWithStoredFile(int assignmentCode, String studentId, String content,
+                                                     BlobStorageService.StoredBlob blob,
+                                                     String originalFileName, String contentType) {
+        checkSubmittable(assignmentCode, studentId);
+
+        try {
+            blobStorageService.acquire(blob);
+            return saveNewSubmission(assignmentCode, studentId, content, blob, originalFileName, contentType);
+
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (Exception e) {
+            throw new RuntimeException("과제 제출 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 새 제출 가능 여부 확인 (수강 여부, 마감일, 중복 제출)
+    @Transactional(readOnly = true)
+    public MetadataCacheService.AssignmentInfo checkSubmittable(int assignmentCode, String studentId) {
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(assignmentCode);
         Student student = studentRepository.findByStudentId(studentId);
 
         if (student == null) {
@@ -206,13 +254,13 @@ public class StudentService {
         }
 
         // 학생이 해당 과제의 수업에 등록되어 있는지 확인
-        boolean isEnrolled = enrollmentRepository.existsByStudentIdAndCourseCode(studentId, assignment.getCourseCode());
+        boolean isEnrolled = enrollmentIndexService.isEnrolled(studentId, assignment.getCourseCode());
         if (!isEnrolled) {
             throw new RuntimeException("해당 수업에 등록되어 있지 않습니다.");
         }
 
         // 마감일 확인
-        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(LocalDateTime.now())) {
+        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(admissionService.acceptedAt())) {
             throw new RuntimeException("과제 제출 기한이 지났습니다.");
         }
 
@@ -222,107 +270,81 @@ public class StudentService {
             throw new RuntimeException("이미 제출된 과제입니다.");
         }
 
-        try {
-            Submission submission = new Submission();
-            submission.setAssignmentCode(assignmentCode);
-            submission.setStudentId(studentId);
-            submission.setContent(content);
-            submission.setSubmissionTime(LocalDateTime.now());
-            submission.setLastModifiedDate(LocalDateTime.now());
-
-            // 파일 처리
-            if (file != null && !file.isEmpty()) {
-                String originalFileName = file.getOriginalFilename();
-                String fileExtension = "";
-                if (originalFileName != null && originalFileName.contains(".")) {
-                    fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-                }
-                String fileName = studentId + "_" + assignmentCode + "_" + System.currentTimeMillis() + fileExtension;
+        return assignment;
+    }
 
-                String uploadDir = System.getProperty("user.dir") + "/uploads/submissions/";
-                File directory = new File(uploadDir);
-                if (!directory.exists()) {
-                    directory.mkdirs();
-                }
+    private Submission saveNewSubmission(int assignmentCode, String studentId, String content,
+                                         BlobStorageService.StoredBlob blob,
+                                         String originalFileName, String contentType) {
+        Submission submission = new Submission();
+        submission.setAssignmentCode(assignmentCode);
+        submission.setStudentId(studentId);
+        submission.setContent(content);
+        submission.setSubmissionTime(admissionService.acceptedAt());
+        submission.setLastModifiedDate(LocalDateTime.now());
 
-                String filePath = uploadDir + fileName;
-                file.transferTo(new File(filePath));
+        if (blob != null) {
+            applyFile(submission, blob, originalFileName, contentType);
+        }
 
-                // 파일 정보 저장 (주석 해제)
-                submission.setFileName(fileName);
-                submission.setFilePath(filePath);
-                submission.setOriginalFileName(originalFileName);
-                submission.setFileSize(file.getSize());
-                submission.setFileContentType(file.getContentType());
-            }
+        Submission saved = submissionRepository.save(submission);
+        dashboardSnapshotService.submissionSaved(saved);
+        return saved;
+    }
+
+    // 파일 저장소에 미리 기록한 파일로 제출물 수정 (스트리밍 업로드용, 여기서 참조 수 증가)
+    @Transactional
+    public Submission updateSubmissionWithStoredFile(int submissionCode, String content,
+                                                     BlobStorageService.StoredBlob blob,
+                                                     String originalFileName, String contentType) {
+        Submission submission = checkEditable(submissionCode);
 
-            return submissionRepository.save(submission);
+        try {
+            blobStorageService.acquire(blob);
+            return saveUpdatedSubmission(submission, content, blob, originalFileName, contentType);
 
         } catch (IOException e) {
             throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + e.getMessage());
         } catch (Exception e) {
-            throw new RuntimeException("과제 제출 중 오류가 발생했습니다: " + e.getMessage());
+            throw new RuntimeException("제출물 수정 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
-    // 파일과 함께 제출물 수정
-    @Transactional
-    public Submission updateSubmissionWithFile(int submissionCode, String content, MultipartFile file) {
+    // 수정 가능한 제출물 조회 (마감일 확인)
+    @Transactional(readOnly = true)
+    public Submission checkEditable(int submissionCode) {
         Submission submission = submissionRepository.findBySubmissionCode(submissionCode)
                 .orElseThrow(() -> new RuntimeException("제출물을 찾을 수 없습니다."));
 
         // 마감일 확인
-        Assignment assignment = getAssignmentDetails(submission.getAssignmentCode());
-        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(LocalDateTime.now())) {
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(submission.getAssignmentCode());
+        if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(admissionService.acceptedAt())) {
             throw new RuntimeException("과제 제출 기한이 지나 수정할 수 없습니다.");
         }
 
-        try {
-            // 새 파일이 있으면 기존 파일 삭제 후 새 파일 저장
-            if (file != null && !file.isEmpty()) {
-                // 기존 파일 삭제
-                if (submission.getFilePath() != null) {
-                    File existingFile = new File(submission.getFilePath());
-                    if (existingFile.exists()) {
-                        existingFile.delete();
-                    }
-                }
-
-                // 새 파일 저장
-                String originalFileName = file.getOriginalFilename();
-                String fileExtension = "";
-                if (originalFileName != null && originalFileName.contains(".")) {
-                    fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-                }
-                String fileName = submission.getStudentId() + "_" + submission.getAssignmentCode() + "_" + System.currentTimeMillis() + fileExtension;
+        return submission;
+    }
 
-                String uploadDir = System.getProperty("user.dir") + "/uploads/submissions/";
-                File directory = new File(uploadDir);
-                if (!directory.exists()) {
-                    directory.mkdirs();
-                }
+    private Submission saveUpdatedSubmission(Submission submission, String content,
+                                             BlobStorageService.StoredBlob blob,
+                                             String originalFileName, String contentType) {
+        if (blob != null) {
+            String previousHash = submission.getFileHash();
+            String previousPath = submission.getFilePath();
 
-                String filePath = uploadDir + fileName;
-                file.transferTo(new File(filePath));
+            applyFile(submission, blob, originalFileName, contentType);
 
-                // 파일 정보 저장 (주석 해제)
-                submission.setFileName(fileName);
-                submission.setFilePath(filePath);
-                submission.setOriginalFileName(originalFileName);
-                submission.setFileSize(file.getSize());
-                submission.setFileContentType(file.getContentType());
+            if (previousHash != null) {
+                blobStorageService.release(previousHash);
+            } else {
+                deleteLegacyFile(previousPath);
             }
+        }
 
-            submission.setContent(content);
-            submission.setLastModifiedDate(LocalDateTime.now());
-
-            return submissionRepository.save(submission);
+        submission.setContent(content);
+        submission.setLastModifiedDate(LocalDateTime.now());
 
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + e.getMessage());
-        } catch (Exception e) {
-            throw new RuntimeException("제출물 수정 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        return submissionRepository.save(submission);
     }
 
     // 제출물 삭제 (파일도 함께 삭제)
@@ -331,20 +353,42 @@ public class StudentService {
                 .orElseThrow(() -> new RuntimeException("제출물을 찾을 수 없습니다."));
 
         // 마감일 확인
-        Assignment assignment = getAssignmentDetails(submission.getAssignmentCode());
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(submission.getAssignmentCode());
         if (assignment.getDueDate() != null && assignment.getDueDate().isBefore(LocalDateTime.now())) {
             throw new RuntimeException("과제 제출 기한이 지나 삭제할 수 없습니다.");
         }
 
-        // 파일이 있다면 삭제
-        if (submission.getFilePath() != null) {
-            File file = new File(submission.getFilePath());
-            if (file.exists()) {
-                file.delete();
-            }
+        // 파일이 있다면 참조 해제 (이전 방식으로 저장된 파일은 바로 삭제)
+        if (submission.getFileHash() != null) {
+            blobStorageService.release(submission.getFileHash());
+        } else {
+            deleteLegacyFile(submission.getFilePath());
         }
 
         submissionRepository.deleteById(submissionCode);
+        dashboardSnapshotService.submissionDeleted(submission.getStudentId(), submissionCode);
+    }
+
+    // 파일 저장소에 저장된 파일 정보를 제출물에 설정
+    private void applyFile(Submission submission, BlobStorageService.StoredBlob blob,
+                           String originalFileName, String contentType) {
+        submission.setFileName(blob.getHash());
+        submission.setFilePath(blob.getPath());
+        submission.setFileHash(blob.getHash());
+        submission.setOriginalFileName(originalFileName);
+        submission.setFileSize(blob.getSize());
+        submission.setFileContentType(contentType);
+    }
+
+    // uploads/submissions/ 에 개별 저장된 이전 파일 삭제
+    private void deleteLegacyFile(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        File file = new File(filePath);
+        if (file.exists()) {
+            file.delete();
+        }
     }
 
     public Submission getSubmissionById(int submissionCode) {
@@ -360,7 +404,7 @@ public class StudentService {
         // 입력값 정제
         String sanitizedContent = XSSUtils.sanitizeInput(content);
 
-        Assignment assignment = getAssignmentDetails(assignmentCode);
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(assignmentCode);
         Student student = studentRepository.findByStudentId(studentId);
 
         if (student == null) {
@@ -368,7 +412,7 @@ public class StudentService {
         }
 
         // 학생이 해당 과제의 수업에 등록되어 있는지 확인
-        boolean isEnrolled = enrollmentRepository.existsByStudentIdAndCourseCode(studentId, assignment.getCourseCode());
+        boolean isEnrolled = enrollmentIndexService.isEnrolled(studentId, assignment.getCourseCode());
         if (!isEnrolled) {
             throw new RuntimeException("해당 수업에 등록되어 있지 않습니다.");
         }
@@ -384,7 +428,7 @@ public class StudentService {
 
     // 특정 과제의 질문 목록 조회 (답변 포함) - 수정
     public List<Question> getAssignmentQuestions(int assignmentCode, String studentId) {
-        Assignment assignment = getAssignmentDetails(assignmentCode);
+        MetadataCacheService.AssignmentInfo assignment = getAssignmentInfo(assignmentCode);
         Student student = studentRepository.findByStudentId(studentId);
 
         if (student == null) {
@@ -392,7 +436,7 @@ public class StudentService {
         }
 
         // 학생이 해당 과제의 수업에 등록되어 있는지 확인
-        boolean isEnrolled = enrollmentRepository.existsByStudentIdAndCourseCode(studentId, assignment.getCourseCode());
+        boolean isEnrolled = enrollmentIndexService.isEnrolled(studentId, assignment.getCourseCode());
         if (!isEnrolled) {
             throw new RuntimeException("해당 수업에 등록되어 있지 않습니다.");
         }
@@ -400,11 +444,8 @@ public class StudentService {
         // 해당 학생이 해당 과제에 대해 한 질문들만 조회 (수정됨)
         List<Question> questions = questionRepository.findByAssignmentCodeAndStudentId(assignmentCode, studentId);
 
-        // 각 질문에 대한 답변 로드
-        for (Question question : questions) {
-            List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-            question.setAnswers(answers);
-        }
+        // 답변은 IN 쿼리 1회로 로드
+        loadAnswers(questions);
 
         return questions;
     }
@@ -416,8 +457,7 @@ public class StudentService {
             throw new RuntimeException("학생을 찾을 수 없습니다.");
         }
 
-        Course course = courseRepository.findByCourseCode(courseCode);
-        if (course == null) {
+        if (metadataCacheService.getCourse(courseCode) == null) {
             return false; // 수업 코드가 잘못됨
         }
 
@@ -433,6 +473,9 @@ public class StudentService {
             enrollment.setEnrollmentDate(LocalDateTime.now());
 
             enrollmentRepository.save(enrollment);
+            courseRepository.adjustStudentCount(courseCode, 1);
+            enrollmentIndexService.enrolled(studentId, courseCode);
+            dashboardSnapshotService.enrollmentChanged(studentId);
             return true;
         } catch (Exception e) {
             System.err.println("Error enrolling in course: " + e.getMessage());
@@ -450,6 +493,9 @@ public class StudentService {
 
         try {
             enrollmentRepository.deleteByStudentIdAndCourseCode(studentId, courseCode);
+            courseRepository.adjustStudentCount(courseCode, -1);
+            enrollmentIndexService.unenrolled(studentId, courseCode);
+            dashboardSnapshotService.enrollmentChanged(studentId);
         } catch (Exception e) {
             System.err.println("Error unenrolling from course: " + e.getMessage());
             e.printStackTrace();
@@ -457,31 +503,10 @@ public class StudentService {
         }
     }
 
-    // 학생의 제출물 목록 조회 (수정됨)
-    public List<Submission> getStudentSubmissions(String studentId) {
+    // 학생의 제출물 목록 조회 (목록용 요약, 과제/강의 정보는 조인 쿼리 1회로 함께 조회)
+    public List<SubmissionSummaryDTO> getStudentSubmissions(String studentId) {
         try {
-            List<Submission> submissions = submissionRepository.findByStudentId(studentId);
-
-            // 각 제출물에 대해 과제 정보와 강의 정보를 로드
-            for (Submission submission : submissions) {
-                try {
-                    // 과제 정보 로드
-                    Assignment assignment = assignmentRepository.findById(submission.getAssignmentCode()).orElse(null);
-                    if (assignment != null) {
-                        submission.setAssignment(assignment);
-
-                        // 강의 정보 로드
-                        Course course = courseRepository.findByCourseCode(assignment.getCourseCode());
-                        if (course != null) {
-                            assignment.setCourse(course);
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error loading assignment for submission " + submission.getSubmissionCode() + ": " + e.getMessage());
-                }
-            }
-
-            return submissions;
+            return submissionRepository.findSummariesByStudentId(studentId);
         } catch (Exception e) {
             System.err.println("Error loading student submissions: " + e.getMessage());
             e.printStackTrace();
@@ -489,120 +514,49 @@ public class StudentService {
         }
     }
 
+    // 학생의 제출물 페이지 (최근 제출 순, cursor가 없으면 첫 페이지)
     @Transactional(readOnly = true)
-    public List<SubmissionDTO> getStudentSubmissionsDTO(String studentId) {
-        try {
-            System.out.println("DEBUG: Loading submissions for student: " + studentId);
-
-            List<Submission> submissions = submissionRepository.findByStudentId(studentId);
-            System.out.println("DEBUG: Found " + submissions.size() + " raw submissions");
-
-            // 각 제출물에 대해 과제 정보를 직접 로드하고 DTO로 변환
-            List<SubmissionDTO> submissionDTOs = new ArrayList<>();
-
-            for (Submission submission : submissions) {
-                try {
-                    // 과제 정보 로드
-                    Optional<Assignment> assignmentOpt = assignmentRepository.findById(submission.getAssignmentCode());
-                    if (assignmentOpt.isPresent()) {
-                        Assignment assignment = assignmentOpt.get();
+    public CursorPage<SubmissionSummaryDTO> getStudentSubmissionsPage(String studentId, String cursor, Integer size) {
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        int limit = CursorPage.limit(size);
 
-                        // 강의 정보 로드
-                        Course course = courseRepository.findByCourseCode(assignment.getCourseCode());
-                        if (course != null) {
-                            assignment.setCourse(course);
-                        }
+        List<SubmissionSummaryDTO> submissions = submissionRepository.findSummaryPageByStudentId(studentId,
+                after == null ? null : after.getTime(),
+                after == null ? 0 : after.getIntKey(),
+                PageRequest.ofSize(limit + 1));
 
-                        submission.setAssignment(assignment);
-                    }
-
-                    // DTO로 변환
-                    SubmissionDTO dto = new SubmissionDTO(submission);
-                    submissionDTOs.add(dto);
-
-                } catch (Exception e) {
-                    System.err.println("Error processing submission " + submission.getSubmissionCode() + ": " + e.getMessage());
-                    // 오류가 있어도 다른 제출물은 계속 처리
-                    SubmissionDTO dto = new SubmissionDTO(submission);
-                    submissionDTOs.add(dto);
-                }
-            }
-
-            System.out.println("DEBUG: Converted to " + submissionDTOs.size() + " DTOs");
-            return submissionDTOs;
-
-        } catch (Exception e) {
-            System.err.println("Error loading student submissions: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
-        }
+        return CursorPage.of(submissions, limit,
+                submission -> CursorPage.encode(submission.getSubmissionTime(), submission.getSubmissionCode()));
     }
 
-    // 기존 getStudentQuestions 메서드를 이걸로 교체
+    // 학생의 제출 통계 (페이지와 관계없이 전체 기준, 집계 쿼리 1회)
     @Transactional(readOnly = true)
-    public List<QuestionDTO> getStudentQuestionsDTO(String studentId) {
-        try {
-            System.out.println("DEBUG: Loading questions for student: " + studentId);
-
-            List<Question> questions = questionRepository.findByStudentId(studentId);
-            System.out.println("DEBUG: Found " + questions.size() + " raw questions");
-
-            // 각 질문에 대해 관련 데이터를 로드하고 DTO로 변환
-            List<QuestionDTO> questionDTOs = new ArrayList<>();
-
-            for (Question question : questions) {
-                try {
-                    // 답변 로드
-                    List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-
-                    // 각 답변에 대해 교수 정보 로드
-                    for (Answer answer : answers) {
-                        try {
-                            if (answer.getProfessorId() != null) {
-                                Professor professor = professorRepository.findByProfessorId(answer.getProfessorId());
-                                answer.setProfessor(professor);
-                            }
-                        } catch (Exception e) {
-                            System.err.println("Error loading professor for answer " + answer.getAnswerCode());
-                        }
-                    }
-
-                    question.setAnswers(answers);
-
-                    // 과제 정보 로드
-                    Optional<Assignment> assignmentOpt = assignmentRepository.findById(question.getAssignmentCode());
-                    if (assignmentOpt.isPresent()) {
-                        Assignment assignment = assignmentOpt.get();
-
-                        // 강의 정보 로드
-                        Course course = courseRepository.findByCourseCode(assignment.getCourseCode());
-                        if (course != null) {
-                            assignment.setCourse(course);
-                        }
-
-                        question.setAssignment(assignment);
-                    }
-
-                    // DTO로 변환
-                    QuestionDTO dto = new QuestionDTO(question);
-                    questionDTOs.add(dto);
-
-                } catch (Exception e) {
-                    System.err.println("Error processing question " + question.getQuestionCode() + ": " + e.getMessage());
-                    // 오류가 있어도 다른 질문은 계속 처리
-                    QuestionDTO dto = new QuestionDTO(question);
-                    questionDTOs.add(dto);
-                }
-            }
-
-            System.out.println("DEBUG: Converted to " + questionDTOs.size() + " DTOs");
-            return questionDTOs;
+    public Map<String, Object> getSubmissionSummary(String studentId) {
+        Object[] row = submissionRepository.summarizeByStudentId(studentId, LocalDateTime.now().minusDays(7)).get(0);
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("total", ((Number) row[0]).longValue());
+        summary.put("graded", ((Number) row[1]).longValue());
+        summary.put("averageScore", row[2] == null ? null : Math.round(((Number) row[2]).doubleValue()));
+        summary.put("recent", row[3] == null ? 0L : ((Number) row[3]).longValue());
+        return summary;
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error loading student questions: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
-        }
+    // 학생의 질문 페이지 (최근 질문 순, 답변은 페이지에 포함된 질문만 IN 쿼리 1회로 로드)
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionDTO> getStudentQuestionsPage(String studentId, String cursor, Integer size) {
+        CursorPage.Cursor after = CursorPage.decode(cursor);
+        int limit = CursorPage.limit(size);
+
+        List<Question> questions = questionRepository.findPageByStudentId(studentId,
+                after == null ? null : after.getTime(),
+                after == null ? 0 : after.getIntKey(),
+                PageRequest.ofSize(limit + 1));
+
+        CursorPage<Question> page = CursorPage.of(questions, limit,
+                question -> CursorPage.encode(question.getQuestionTime(), question.getQuestionCode()));
+        loadAnswers(page.getItems());
+        return page.map(question -> new QuestionDTO(question, professorDirectoryService::getName));
     }
 
     // 기존 getAssignmentQuestions 메서드를 이걸로 교체
@@ -610,6 +564,7 @@ public class StudentService {
         try {
             System.out.println("DEBUG: Loading questions for assignment " + assignmentCode + ", student " + studentId);
 
+            // 질문 DTO에 과제 제목/강의명이 들어가므로 엔티티로 조회
             Assignment assignment = getAssignmentDetails(assignmentCode);
             Student student = studentRepository.findByStudentId(studentId);
 
@@ -617,7 +572,7 @@ public class StudentService {
                 throw new RuntimeException("학생을 찾을 수 없습니다.");
             }
 
-            boolean isEnrolled = enrollmentRepository.existsByStudentIdAndCourseCode(studentId, assignment.getCourseCode());
+            boolean isEnrolled = enrollmentIndexService.isEnrolled(studentId, assignment.getCourseCode());
             if (!isEnrolled) {
                 throw new RuntimeException("해당 수업에 등록되어 있지 않습니다.");
             }
@@ -625,39 +580,13 @@ public class StudentService {
             List<Question> questions = questionRepository.findByAssignmentCodeAndStudentId(assignmentCode, studentId);
             System.out.println("DEBUG: Found " + questions.size() + " questions");
 
-            // 각 질문에 대해 답변과 관련 정보를 로드하고 DTO로 변환
-            List<QuestionDTO> questionDTOs = new ArrayList<>();
+            // 답변과 답변 교수 정보는 IN 쿼리 1회로 로드
+            loadAnswers(questions);
 
+            List<QuestionDTO> questionDTOs = new ArrayList<>();
             for (Question question : questions) {
-                try {
-                    // 답변 로드
-                    List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-                    System.out.println("DEBUG: Question " + question.getQuestionCode() + " has " + answers.size() + " answers");
-
-                    // 각 답변에 교수 정보 로드
-                    for (Answer answer : answers) {
-                        try {
-                            if (answer.getProfessorId() != null) {
-                                Professor professor = professorRepository.findByProfessorId(answer.getProfessorId());
-                                answer.setProfessor(professor);
-                            }
-                        } catch (Exception e) {
-                            System.err.println("Error loading professor for answer " + answer.getAnswerCode());
-                        }
-                    }
-
-                    question.setAnswers(answers);
-                    question.setAssignment(assignment);
-
-                    // DTO로 변환
-                    QuestionDTO dto = new QuestionDTO(question);
-                    questionDTOs.add(dto);
-
-                } catch (Exception e) {
-                    System.err.println("Error processing question " + question.getQuestionCode() + ": " + e.getMessage());
-                    QuestionDTO dto = new QuestionDTO(question);
-                    questionDTOs.add(dto);
-                }
+                question.setAssignment(assignment);
+                questionDTOs.add(new QuestionDTO(question, professorDirectoryService::getName));
             }
 
             return questionDTOs;
@@ -671,31 +600,8 @@ public class StudentService {
     // 학생의 질문 목록 조회
     public List<Question> getStudentQuestions(String studentId) {
         try {
-            List<Question> questions = questionRepository.findByStudentId(studentId);
-
-            // 각 질문에 대한 답변과 과제 정보 로드
-            for (Question question : questions) {
-                try {
-                    // 답변 로드
-                    List<Answer> answers = answerRepository.findByQuestionCodeOrderByAnswerTimeAsc(question.getQuestionCode());
-                    question.setAnswers(answers);
-
-                    // 과제 정보 로드
-                    Assignment assignment = assignmentRepository.findById(question.getAssignmentCode()).orElse(null);
-                    if (assignment != null) {
-                        question.setAssignment(assignment);
-
-                        // 강의 정보 로드
-                        Course course = courseRepository.findByCourseCode(assignment.getCourseCode());
-                        if (course != null) {
-                            assignment.setCourse(course);
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error loading data for question " + question.getQuestionCode() + ": " + e.getMessage());
-                }
-            }
-
+            List<Question> questions = questionRepository.findByStudentIdWithAssignmentAndCourse(studentId);
+            loadAnswers(questions);
             return questions;
         } catch (Exception e) {
             System.err.println("Error loading student questions: " + e.getMessage());
@@ -703,4 +609,36 @@ public class StudentService {
             return List.of();
         }
     }
-}
\ No newline at end of file
+
+    // 질문 목록에 달린 답변 작성 교수의 이름 (화면 모델용)
+    public Map<String, String> getAnswerProfessorNames(List<Question> questions) {
+        Set<String> professorIds = new HashSet<>();
+        for (Question question : questions) {
+            if (question.getAnswers() != null) {
+                for (Answer answer : question.getAnswers()) {
+                    professorIds.add(answer.getProfessorId());
+                }
+            }
+        }
+        return professorDirectoryService.getNames(professorIds);
+    }
+
+    // 질문 목록의 답변을 IN 쿼리 1회로 로드하여 질문별로 묶어서 설정 (답변 시간 오름차순)
+    // 답변 교수 이름은 ProfessorDirectoryService에서 조회하므로 Professor는 로드하지 않음
+    private void loadAnswers(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+
+        List<Integer> questionCodes = questions.stream()
+                .map(Question::getQuestionCode)
+                .collect(Collectors.toList());
+
+        Map<Integer, List<Answer>> answersByQuestion = answerRepository.findByQuestionCodeInOrderByAnswerTimeAsc(questionCodes).stream()
+                .collect(Collectors.groupingBy(Answer::getQuestionCode));
+
+        for (Question question : questions) {
+            question.setAnswers(answersByQuestion.getOrDefault(question.getQuestionCode(), new ArrayList<>()));
+        }
+    }
+}
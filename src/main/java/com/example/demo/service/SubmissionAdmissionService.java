@@ -0,0 +1,157 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 과제 제출 요청 수용 제어 (마감 직전 몰림 대비)
+ * - 전체 동시 처리 수와 과제별 동시 처리 수를 제한하고, 대기 인원이 가득 차면 즉시 429로 거절
+ * - 요청이 도착한 시각을 접수 시각으로 기록해, 마감 전에 접수된 제출은 실제 저장이 늦어져도 기한 내 제출로 처리
+ *
+ * 사용법: try (Ticket ticket = admissionService.admit(assignmentCode, receivedAt)) { ... 제출 확인/저장 ... }
+ * 파일 업로드처럼 클라이언트 속도에 좌우되는 작업은 허가를 받기 전에 끝내고, 허가는 DB 저장 구간에만 잡음
+ */
+@Service
+public class SubmissionAdmissionService {
+
+    @Value("${submission.admission.max-concurrent:32}")
+    private int maxConcurrent;
+
+    @Value("${submission.admission.per-assignment:8}")
+    private int perAssignment;
+
+    // Tomcat 작업 스레드(기본 200개)보다 작게 두어 다른 요청을 처리할 스레드를 남김
+    @Value("${submission.admission.max-queued:100}")
+    private int maxQueued;
+
+    @Value("${submission.admission.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    private Semaphore globalPermits;
+    private final Map<Integer, Semaphore> assignmentPermits = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    // 현재 스레드에서 처리 중인 제출의 접수 시각
+    private final ThreadLocal<LocalDateTime> acceptedAt = new ThreadLocal<>();
+
+    @PostConstruct
+    public void init() {
+        globalPermits = new Semaphore(maxConcurrent, true);
+    }
+
+    // 제출 접수 (대기열이 가득 찼거나 대기 시간을 넘기면 RejectedException)
+    public Ticket admit(int assignmentCode) {
+        return admit(assignmentCode, LocalDateTime.now());
+    }
+
+    // 요청 도착 시각(receivedAt)을 접수 시각으로 하는 제출 접수
+    public Ticket admit(int assignmentCode, LocalDateTime receivedAt) {
+        if (waiting.incrementAndGet() > maxQueued) {
+            waiting.decrementAndGet();
+            throw reject();
+        }
+
+        Semaphore assignment = assignmentPermits.computeIfAbsent(assignmentCode, code -> new Semaphore(perAssignment, true));
+        Semaphore global = globalPermits;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+
+        try {
+            if (!assignment.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw reject();
+            }
+            if (!global.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                assignment.release();
+                throw reject();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        acceptedAt.set(receivedAt);
+        return new Ticket(receivedAt, assignment, global);
+    }
+
+    // 허가 없이 접수 시각만 적용해서 실행 (파일을 받기 전 제출 가능 여부 사전 확인용)
+    public void checkAt(LocalDateTime receivedAt, Runnable check) {
+        LocalDateTime previous = acceptedAt.get();
+        acceptedAt.set(receivedAt);
+        try {
+            check.run();
+        } finally {
+            if (previous != null) {
+                acceptedAt.set(previous);
+            } else {
+                acceptedAt.remove();
+            }
+        }
+    }
+
+    // 현재 제출의 접수 시각 (수용 제어를 거치지 않은 호출이면 현재 시각)
+    public LocalDateTime acceptedAt() {
+        LocalDateTime time = acceptedAt.get();
+        return time != null ? time : LocalDateTime.now();
+    }
+
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    public int getRejectedCount() {
+        return rejected.get();
+    }
+
+    private RejectedException reject() {
+        rejected.incrementAndGet();
+        // 대기 인원에 비례해 재시도 간격 안내 (1~30초)
+        int retryAfter = Math.min(30, 1 + waiting.get() / Math.max(1, maxConcurrent));
+        return new RejectedException(retryAfter);
+    }
+
+    public class Ticket implements AutoCloseable {
+        @Getter
+        private final LocalDateTime acceptedAt;
+        private final Semaphore assignmentPermit;
+        private final Semaphore globalPermit;
+        private boolean closed;
+
+        private Ticket(LocalDateTime acceptedAt, Semaphore assignmentPermit, Semaphore globalPermit) {
+            this.acceptedAt = acceptedAt;
+            this.assignmentPermit = assignmentPermit;
+            this.globalPermit = globalPermit;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            SubmissionAdmissionService.this.acceptedAt.remove();
+            globalPermit.release();
+            assignmentPermit.release();
+        }
+    }
+
+    @Getter
+    public static class RejectedException extends RuntimeException {
+        private final int retryAfterSeconds;
+
+        public RejectedException(int retryAfterSeconds) {
+            super("제출 요청이 많아 잠시 후 다시 시도해주세요.");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Submission;
+import com.example.demo.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 과제 제출물 일괄 내보내기 (ZIP)
+ * 압축 파일을 디스크나 메모리에 만들지 않고 응답 스트림에 바로 기록
+ * 이미 압축된 형식(zip, jpg, pdf 등)은 압축 없이 저장하고, 마지막에 manifest.csv 추가
+ */
+@Service
+@Transactional(readOnly = true)
+public class SubmissionExportService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 다시 압축해도 크기가 거의 줄지 않는 확장자
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            "zip", "7z", "rar", "gz", "tgz", "bz2", "xz", "jar", "war",
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "mp3", "mp4", "m4a", "mov", "avi", "mkv", "webm",
+            "pdf", "docx", "xlsx", "pptx", "hwpx", "odt", "ods", "odp");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    // 내보낼 제출물 조회 (학생 정보 포함)
+    public List<Submission> getSubmissionsForExport(int assignmentCode) {
+        return submissionRepository.findByAssignmentCodeWithStudent(assignmentCode);
+    }
+
+    // 제출 파일과 manifest.csv를 ZIP으로 기록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeZip(List<Submission> submissions, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        StringBuilder manifest = new StringBuilder("\uFEFF"); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        manifest.append("학번,이름,제출 시간,최종 수정 시간,점수,원본 파일명,ZIP 경로\n");
+
+        Set<String> usedNames = new HashSet<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (Submission submission : submissions) {
+            String entryName = "";
+            File file = submission.getFilePath() != null ? new File(submission.getFilePath()) : null;
+
+            if (file != null && file.isFile()) {
+                entryName = uniqueEntryName(submission, usedNames);
+
+                // 엔트리마다 압축 수준 변경 (NO_COMPRESSION은 CRC 사전 계산 없이 한 번에 기록 가능)
+                zip.setLevel(isCompressed(entryName) ? Deflater.NO_COMPRESSION : Deflater.BEST_SPEED);
+
+                ZipEntry entry = new ZipEntry(entryName);
+                entry.setTime(file.lastModified());
+                zip.putNextEntry(entry);
+                try (InputStream in = Files.newInputStream(file.toPath())) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        zip.write(buffer, 0, read);
+                    }
+                }
+                zip.closeEntry();
+            }
+
+            manifest.append(csv(submission.getStudentId())).append(',')
+                    .append(csv(submission.getStudent() != null ? submission.getStudent().getName() : null)).append(',')
+                    .append(csv(format(submission.getSubmissionTime()))).append(',')
+                    .append(csv(format(submission.getLastModifiedDate()))).append(',')
+                    .append(submission.getScore() != null ? submission.getScore() : "").append(',')
+                    .append(csv(submission.getOriginalFileName())).append(',')
+                    .append(csv(entryName)).append('\n');
+        }
+
+        zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        zip.putNextEntry(new ZipEntry("manifest.csv"));
+        zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    // 학번/파일명 형태의 엔트리 이름 (경로 문자 제거, 중복 시 확장자 앞에 번호 추가: report_1.pdf)
+    private String uniqueEntryName(Submission submission, Set<String> usedNames) {
+        String fileName = submission.getOriginalFileName() != null ?
+                submission.getOriginalFileName() : submission.getFileName();
+        if (fileName == null || fileName.isBlank()) {
+            fileName = "submission_" + submission.getSubmissionCode();
+        }
+
+        String safeName = sanitize(fileName);
+        int dot = safeName.lastIndexOf('.');
+        String stem = dot > 0 ? safeName.substring(0, dot) : safeName;
+        String extension = dot > 0 ? safeName.substring(dot) : "";
+
+        String base = sanitize(submission.getStudentId()) + "/" + stem;
+        String name = base + extension;
+        int counter = 1;
+        while (!usedNames.add(name)) {
+            name = base + "_" + counter++ + extension;
+        }
+        return name;
+    }
+
+    private String sanitize(String value) {
+        if (value == null) {
+            return "unknown";
+        }
+        String cleaned = value.replaceAll("[\\\\/:*?\"<>|]", "_").trim();
+        return cleaned.isEmpty() || cleaned.equals(".") || cleaned.equals("..") ? "unknown" : cleaned;
+    }
+
+    private boolean isCompressed(String entryName) {
+        int dot = entryName.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(entryName.substring(dot + 1).toLowerCase());
+    }
+
+    private String format(LocalDateTime time) {
+        return time != null ? time.format(TIME_FORMAT) : null;
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Submission;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스트리밍 방식의 과제 제출 업로드
+ * multipart 본문을 임시 파일이나 메모리에 모으지 않고, 파일 부분을 읽으면서 바로 파일 저장소에 기록
+ * (크기와 SHA-256은 저장하면서 계산, MIME 타입은 앞부분 바이트로 판별)
+ * 폼 필드(assignmentCode 또는 submissionCode, content)는 파일보다 먼저 전송되어야 함
+ * 파일 기록은 수용 제어(SubmissionAdmissionService) 허가 없이 진행하고, 허가는 제출 확인/저장 구간에만 잡음
+ * (느린 업로드가 과제별 허가를 오래 잡고 있지 않도록, 마감 판정은 요청 도착 시각 기준)
+ *
+ * 업로드 동안 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 사용하지 않고,
+ * 파일 기록이 끝난 뒤 StudentService의 짧은 트랜잭션에서 제출물을 저장
+ */
+@Service
+public class SubmissionUploadService {
+
+    private static final int MAX_FIELD_SIZE = 1024 * 1024;
+    private static final int SNIFF_SIZE = 16;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private BlobStorageService blobStorageService;
+
+    @Autowired
+    private SubmissionAdmissionService admissionService;
+
+    @Value("${file.upload.max-size:100MB}")
+    private DataSize maxFileSize;
+
+    // 새 과제 제출 (assignmentCode, content, file)
+    public Submission submit(HttpServletRequest request, String studentId) throws IOException {
+        return handle(request, studentId, false);
+    }
+
+    // 제출물 수정 (submissionCode, content, file)
+    public Submission update(HttpServletRequest request, String studentId) throws IOException {
+        return handle(request, studentId, true);
+    }
+
+    private Submission handle(HttpServletRequest request, String studentId, boolean update) throws IOException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new RuntimeException("multipart/form-data 요청이 아닙니다.");
+        }
+
+        // 요청 도착 시각 (업로드가 늦게 끝나도 이 시각을 접수 시각으로 사용)
+        LocalDateTime receivedAt = LocalDateTime.now();
+
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setFileSizeMax(maxFileSize.toBytes());
+        upload.setSizeMax(maxFileSize.toBytes() + MAX_FIELD_SIZE);
+
+        Map<String, String> fields = new HashMap<>();
+        FileItemInputIterator items = upload.getItemIterator(request);
+        while (items.hasNext()) {
+            FileItemInput item = items.next();
+
+            if (item.isFormField()) {
+                fields.put(item.getFieldName(), readField(item));
+                continue;
+            }
+
+            // 파일이 선택되지 않은 파일 필드는 건너뜀
+            if (!"file".equals(item.getFieldName()) || item.getName() == null || item.getName().isEmpty()) {
+                continue;
+            }
+
+            return saveWithFile(fields, item, studentId, update, receivedAt);
+        }
+
+        // 파일 없이 텍스트만 제출/수정
+        String content = requireContent(fields, update);
+        if (update) {
+            int submissionCode = requireInt(fields, "submissionCode");
+            Submission submission = checkOwner(submissionCode, studentId);
+            try (SubmissionAdmissionService.Ticket ticket = admissionService.admit(submission.getAssignmentCode(), receivedAt)) {
+                return studentService.updateSubmission(submissionCode, content);
+            }
+        }
+
+        int assignmentCode = requireInt(fields, "assignmentCode");
+        try (SubmissionAdmissionService.Ticket ticket = admissionService.admit(assignmentCode, receivedAt)) {
+            return studentService.submitAssignment(assignmentCode, studentId, content);
+        }
+    }
+
+    private Submission saveWithFile(Map<String, String> fields, FileItemInput item, String studentId,
+                                    boolean update, LocalDateTime receivedAt) throws IOException {
+        String content = requireContent(fields, update);
+        int code = requireInt(fields, update ? "submissionCode" : "assignmentCode");
+        int assignmentCode = update ? checkOwner(code, studentId).getAssignmentCode() : code;
+
+        // 파일을 받기 전에 제출 가능 여부를 먼저 확인 (거절될 업로드를 저장하지 않음)
+        admissionService.checkAt(receivedAt, () -> {
+            if (update) {
+                studentService.checkEditable(code);
+            } else {
+                studentService.checkSubmittable(code, studentId);
+            }
+        });
+
+        // 파일 기록은 허가 없이 진행 (DB 커넥션을 잡지 않음, 기록한 블롭은 저장 전까지 참조 수 0)
+        String originalFileName = baseName(item.getName());
+        String contentType;
+        BlobStorageService.StoredBlob blob;
+        try (InputStream in = new BufferedInputStream(item.getInputStream(), 64 * 1024)) {
+            contentType = sniffContentType(in, item.getContentType());
+            blob = blobStorageService.write(in);
+        }
+
+        // 확인 ~ 저장 구간만 과제별/전체 동시 처리 수 제한 (접수 시각은 요청 도착 시각)
+        try (SubmissionAdmissionService.Ticket ticket = admissionService.admit(assignmentCode, receivedAt)) {
+            // 빈 파일은 파일 없이 제출한 것으로 처리 (기록한 블롭은 참조되지 않으므로 GC가 정리)
+            if (blob.getSize() == 0) {
+                return update ? studentService.updateSubmission(code, content)
+                        : studentService.submitAssignment(code, studentId, content);
+            }
+
+            return update
+                    ? studentService.updateSubmissionWithStoredFile(code, content, blob, originalFileName, contentType)
+                    : studentService.submitAssignmentWithStoredFile(code, studentId, content, blob, originalFileName, contentType);
+        }
+    }
+
+    private Submission checkOwner(int submissionCode, String studentId) {
+        Submission submission = studentService.getSubmissionById(submissionCode);
+        if (submission == null || !submission.getStudentId().equals(studentId)) {
+            throw new RuntimeException("제출물을 찾을 수 없습니다.");
+        }
+        return submission;
+    }
+
+    private String requireContent(Map<String, String> fields, boolean update) {
+        String content = fields.get("content");
+        if (content == null || content.trim().isEmpty()) {
+            throw new RuntimeException(update ? "수정할 내용을 입력해주세요." : "제출 내용을 입력해주세요.");
+        }
+        return content;
+    }
+
+    private int requireInt(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            throw new RuntimeException("필수 정보가 누락되었습니다.");
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private String readField(FileItemInput item) throws IOException {
+        try (InputStream in = item.getInputStream()) {
+            byte[] bytes = in.readNBytes(MAX_FIELD_SIZE + 1);
+            if (bytes.length > MAX_FIELD_SIZE) {
+                throw new RuntimeException("입력값이 너무 깁니다.");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // 일부 브라우저가 보내는 전체 경로에서 파일명만 추출
+    private String baseName(String fileName) {
+        int slash = Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'));
+        return slash >= 0 ? fileName.substring(slash + 1) : fileName;
+    }
+
+    // 파일 앞부분으로 MIME 타입 판별 (읽은 바이트는 되돌려 저장에 그대로 사용)
+    // zip/OLE 컨테이너(docx, hwp 등)는 브라우저가 보낸 타입을 우선 사용
+    private String sniffContentType(InputStream in, String declared) throws IOException {
+        in.mark(SNIFF_SIZE);
+        byte[] header = in.readNBytes(SNIFF_SIZE);
+        in.reset();
+
+        String fallback = declared != null && !declared.isEmpty() ? declared : "application/octet-stream";
+
+        if (startsWith(header, 0x25, 0x50, 0x44, 0x46)) {
+            return "application/pdf";
+        }
+        if (startsWith(header, 0x89, 0x50, 0x4E, 0x47)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0x47, 0x49, 0x46, 0x38)) {
+            return "image/gif";
+        }
+        if (startsWith(header, 0x50, 0x4B, 0x03, 0x04)) {
+            return declared != null && !declared.isEmpty() && !declared.startsWith("text/") ? declared : "application/zip";
+        }
+        if (startsWith(header, 0xD0, 0xCF, 0x11, 0xE0)) {
+            return declared != null && !declared.isEmpty() && !declared.startsWith("text/") ? declared : "application/x-ole-storage";
+        }
+        return fallback;
+    }
+
+    private boolean startsWith(byte[] header, int... magic) {
+        if (header.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((header[i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
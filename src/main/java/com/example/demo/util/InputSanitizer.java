@@ -0,0 +1,160 @@
+package com.example.demo.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 입력값 HTML 이스케이프 (XSSUtils.sanitizeInput에서 사용)
+ * HtmlUtils.htmlEscape(input)와 같은 결과를 한 번의 순회로 만듦
+ *
+ * - 바꿀 문자가 없으면 입력 문자열을 그대로 반환 (대부분의 한글/영문 본문)
+ * - 바꿀 문자가 있으면 스레드별로 재사용하는 버퍼에 쓰고 결과 문자열만 새로 만듦
+ * - Writer로 바로 쓰는 방식도 제공 (중간 문자열 없음)
+ * - 앞뒤 공백 제거(trim)를 같은 순회에서 처리하는 방식도 제공
+ *
+ * 치환표는 클래스 적재 시 HtmlUtils로 만들어서 HtmlUtils의 기본 동작(HTML 4 문자 참조)과 항상 같음
+ */
+public final class InputSanitizer {
+
+    // HtmlUtils가 문자 참조로 바꾸는 범위 (0 ~ 999, 8000 ~ 9999)
+    private static final int LOW_LIMIT = 1000;
+    private static final int HIGH_START = 8000;
+    private static final int HIGH_LIMIT = 10000;
+
+    private static final String[] LOW_REFERENCES = new String[LOW_LIMIT];
+    private static final String[] HIGH_REFERENCES = new String[HIGH_LIMIT - HIGH_START];
+
+    // 재사용 버퍼가 이보다 커지면 버림 (큰 입력 한 번으로 메모리를 계속 잡고 있지 않도록)
+    private static final int MAX_RETAINED_CAPACITY = 32 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    static {
+        for (int c = 0; c < LOW_LIMIT; c++) {
+            LOW_REFERENCES[c] = referenceOf((char) c);
+        }
+        for (int c = HIGH_START; c < HIGH_LIMIT; c++) {
+            HIGH_REFERENCES[c - HIGH_START] = referenceOf((char) c);
+        }
+    }
+
+    private InputSanitizer() {
+    }
+
+    /**
+     * HTML 이스케이프 (바꿀 문자가 없으면 입력 그대로 반환)
+     */
+    public static String sanitize(String input) {
+        if (input == null) {
+            return null;
+        }
+        return sanitize(input, 0, input.length());
+    }
+
+    /**
+     * 앞뒤 공백 제거 후 HTML 이스케이프 (sanitize(input.trim())과 같은 결과, 중간 문자열 없음)
+     */
+    public static String sanitizeTrimmed(String input) {
+        if (input == null) {
+            return null;
+        }
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return sanitize(input, start, end);
+    }
+
+    /**
+     * HTML 이스케이프 결과를 Writer로 바로 씀
+     */
+    public static void sanitize(CharSequence input, Writer out) throws IOException {
+        if (input == null) {
+            return;
+        }
+        int length = input.length();
+        int copyFrom = 0;
+        for (int i = 0; i < length; i++) {
+            String reference = referenceFor(input.charAt(i));
+            if (reference != null) {
+                out.append(input, copyFrom, i);
+                out.write(reference);
+                copyFrom = i + 1;
+            }
+        }
+        out.append(input, copyFrom, length);
+    }
+
+    private static String sanitize(String input, int start, int end) {
+        // 1. 바꿀 첫 문자 찾기 (없으면 새 문자열을 만들지 않음)
+        int first = start;
+        while (first < end && referenceFor(input.charAt(first)) == null) {
+            first++;
+        }
+        if (first == end) {
+            return start == 0 && end == input.length() ? input : input.substring(start, end);
+        }
+
+        // 2. 나머지는 버퍼에 이어서 씀
+        StringBuilder buffer = acquireBuffer(end - start + 16);
+        try {
+            buffer.append(input, start, first);
+            int copyFrom = first;
+            for (int i = first; i < end; i++) {
+                String reference = referenceFor(input.charAt(i));
+                if (reference != null) {
+                    buffer.append(input, copyFrom, i).append(reference);
+                    copyFrom = i + 1;
+                }
+            }
+            buffer.append(input, copyFrom, end);
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static String referenceFor(char c) {
+        if (c < LOW_LIMIT) {
+            return LOW_REFERENCES[c];
+        }
+        if (c >= HIGH_START && c < HIGH_LIMIT) {
+            return HIGH_REFERENCES[c - HIGH_START];
+        }
+        return null;
+    }
+
+    private static String referenceOf(char c) {
+        String single = String.valueOf(c);
+        String escaped = HtmlUtils.htmlEscape(single);
+        return escaped.equals(single) ? null : escaped;
+    }
+
+    // 가상 스레드는 요청마다 새로 만들어지므로 재사용하지 않음
+    private static StringBuilder acquireBuffer(int capacity) {
+        if (Thread.currentThread().isVirtual()) {
+            return new StringBuilder(capacity);
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(capacity);
+        return buffer;
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (Thread.currentThread().isVirtual()) {
+            return;
+        }
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        } else {
+            buffer.setLength(0);
+        }
+    }
+}
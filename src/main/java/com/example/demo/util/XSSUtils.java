@@ -1,30 +1,15 @@
 package com.example.demo.util;
 
 import org.springframework.web.util.HtmlUtils;
-import java.util.regex.Pattern;
+
+import java.io.IOException;
+import java.io.Writer;
 
 /**
  * XSS 공격 방어를 위한 유틸리티 클래스
  */
 public class XSSUtils {
 
-    // 위험한 HTML 태그들을 감지하는 패턴
-    private static final Pattern[] XSS_PATTERNS = {
-            Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("onerror(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("onclick(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("onmouseover(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
-    };
-
     /**
      * XSS 공격 가능성이 있는 문자열인지 검사
      */
@@ -33,31 +18,31 @@ public class XSSUtils {
             return false;
         }
 
-        for (Pattern pattern : XSS_PATTERNS) {
-            if (pattern.matcher(input).find()) {
-                return true;
-            }
-        }
-        return false;
+        // <script>, src='...', eval(...), javascript:, on*= 등 위험한 패턴을 한 번의 순회로 검사
+        return XssScanner.containsXSS(input);
     }
 
     /**
      * HTML 특수 문자를 이스케이프 처리
      */
     public static String sanitizeInput(String input) {
-        if (input == null) {
-            return null;
-        }
-
-        // Spring의 HtmlUtils를 사용한 HTML 이스케이프
-        String sanitized = HtmlUtils.htmlEscape(input);
+        // HtmlUtils.htmlEscape와 같은 결과 (바꿀 문자가 없으면 입력 그대로 반환)
+        // 이스케이프 후에는 '<'가 남지 않으므로 태그를 찾는 추가 필터링은 필요 없음
+        return InputSanitizer.sanitize(input);
+    }
 
-        // 추가적인 필터링
-        sanitized = sanitized.replaceAll("(?i)<script.*?>.*?</script.*?>", "");
-        sanitized = sanitized.replaceAll("(?i)<.*?javascript:.*?>.*?</.*?>", "");
-        sanitized = sanitized.replaceAll("(?i)<.*?\\s+on\\w+\\s*=.*?>", "");
+    /**
+     * 앞뒤 공백 제거 후 HTML 특수 문자를 이스케이프 처리 (sanitizeInput(input.trim())과 같은 결과)
+     */
+    public static String sanitizeTrimmed(String input) {
+        return InputSanitizer.sanitizeTrimmed(input);
+    }
 
-        return sanitized;
+    /**
+     * HTML 특수 문자를 이스케이프 처리해서 Writer로 바로 출력
+     */
+    public static void sanitizeInput(CharSequence input, Writer out) throws IOException {
+        InputSanitizer.sanitize(input, out);
     }
 
     /**
@@ -79,6 +64,26 @@ public class XSSUtils {
         return HtmlUtils.htmlEscape(input);
     }
 
+    /**
+     * 이스케이프된 텍스트를 maxLength 글자 이내로 줄임 (넘으면 "..."을 붙임, 목록 미리보기용)
+     * 잘린 위치가 "&amp;lt;" 같은 엔티티 중간이면 엔티티 앞에서 자름
+     */
+    public static String abbreviate(String input, int maxLength) {
+        if (input == null || input.length() <= maxLength) {
+            return input;
+        }
+
+        int end = maxLength - 3;
+        int ampersand = input.lastIndexOf('&', end - 1);
+        if (ampersand >= 0 && end - ampersand < 12) {
+            int semicolon = input.indexOf(';', ampersand);
+            if (semicolon < 0 || semicolon >= end) {
+                end = ampersand;
+            }
+        }
+        return input.substring(0, end) + "...";
+    }
+
     /**
      * HTML 이스케이프를 해제 (필요한 경우)
      */
@@ -0,0 +1,187 @@
+package com.example.demo.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+/**
+ * XSS 패턴 단일 패스 검사기 (XSSUtils.containsXSS에서 사용)
+ * 이전 정규식 13개와 같은 입력을 감지하되, 입력을 한 번만 읽고 객체를 만들지 않음
+ *
+ * 이전 정규식은 모두 "키워드" 또는 "키워드 뒤 어딘가에 특정 문자"의 존재 여부만 판단하므로
+ * - 키워드는 Aho-Corasick 오토마톤(ASCII 대소문자 무시)으로 찾고
+ * - "뒤 어딘가" 조건은 대기 중인 닫는 문자 비트로 기억했다가 해당 문자가 나오면 감지
+ *
+ *   </script>, javascript:, vbscript:          → 즉시 감지
+ *   <script … >                                 → <script 뒤의 '>' (<script[^>]*>.*?</script> 포함)
+ *   eval( … ), expression( … )                  → 뒤의 ')'
+ *   onload/onerror/onclick/onmouseover … =      → 뒤의 '='
+ *   src [\r\n]* = [\r\n]* ' … ' (또는 " … ")    → src 뒤 상태 기계로 여는 따옴표를 찾은 뒤 같은 따옴표
+ *
+ * 정규식의 CASE_INSENSITIVE는 US-ASCII만 대소문자를 무시하므로 여기서도 ASCII만 소문자로 바꿔서 비교
+ */
+public final class XssScanner {
+
+    private static final int ALPHABET = 128;
+
+    // 키워드 출력 비트
+    private static final int MATCH = 1;
+    private static final int AWAIT_GT = 1 << 1;        // '>'
+    private static final int AWAIT_PAREN = 1 << 2;     // ')'
+    private static final int AWAIT_EQUALS = 1 << 3;    // '='
+    private static final int AWAIT_SQUOTE = 1 << 4;    // '\''
+    private static final int AWAIT_DQUOTE = 1 << 5;    // '"'
+    private static final int SRC = 1 << 6;
+
+    private static final String[] KEYWORDS = {
+            "</script>", "javascript:", "vbscript:",
+            "<script",
+            "eval(", "expression(",
+            "onload", "onerror", "onclick", "onmouseover",
+            "src"
+    };
+
+    private static final int[] KEYWORD_OUTPUTS = {
+            MATCH, MATCH, MATCH,
+            AWAIT_GT,
+            AWAIT_PAREN, AWAIT_PAREN,
+            AWAIT_EQUALS, AWAIT_EQUALS, AWAIT_EQUALS, AWAIT_EQUALS,
+            SRC
+    };
+
+    // src 뒤 상태: 0 = 없음, 1 = '=' 대기, 2 = 여는 따옴표 대기
+    private static final int SRC_NONE = 0;
+    private static final int SRC_AWAIT_EQUALS = 1;
+    private static final int SRC_AWAIT_QUOTE = 2;
+
+    // 상태 전이표 (state * 128 + 문자) 와 상태별 출력 비트
+    private static final int[] TRANSITIONS;
+    private static final int[] OUTPUTS;
+
+    static {
+        int maxStates = 1;
+        for (String keyword : KEYWORDS) {
+            maxStates += keyword.length();
+        }
+
+        int[] transitions = new int[maxStates * ALPHABET];
+        int[] outputs = new int[maxStates];
+        Arrays.fill(transitions, -1);
+
+        // 1. 키워드 트라이
+        int stateCount = 1;
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            int state = 0;
+            for (char c : KEYWORDS[k].toCharArray()) {
+                int index = state * ALPHABET + c;
+                if (transitions[index] < 0) {
+                    transitions[index] = stateCount++;
+                }
+                state = transitions[index];
+            }
+            outputs[state] |= KEYWORD_OUTPUTS[k];
+        }
+
+        // 2. 실패 링크를 따라 전이표 완성 (너비 우선), 출력은 실패 상태의 출력까지 합침
+        int[] failure = new int[stateCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[c];
+            if (next < 0) {
+                transitions[c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] |= outputs[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int index = state * ALPHABET + c;
+                int next = transitions[index];
+                int fallback = transitions[failure[state] * ALPHABET + c];
+                if (next < 0) {
+                    transitions[index] = fallback;
+                } else {
+                    failure[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+
+        TRANSITIONS = Arrays.copyOf(transitions, stateCount * ALPHABET);
+        OUTPUTS = Arrays.copyOf(outputs, stateCount);
+    }
+
+    private XssScanner() {
+    }
+
+    /**
+     * XSS 패턴이 있는지 검사 (입력을 한 번만 읽음)
+     */
+    public static boolean containsXSS(CharSequence input) {
+        int state = 0;
+        int awaiting = 0;
+        int srcState = SRC_NONE;
+
+        for (int i = 0, length = input.length(); i < length; i++) {
+            char c = input.charAt(i);
+
+            // 1. 앞에서 나온 키워드가 기다리는 문자
+            if (awaiting != 0 && (awaiting & closerBit(c)) != 0) {
+                return true;
+            }
+
+            // 2. src [\r\n]* = [\r\n]* 따옴표
+            if (srcState != SRC_NONE && c != '\r' && c != '\n') {
+                if (srcState == SRC_AWAIT_EQUALS && c == '=') {
+                    srcState = SRC_AWAIT_QUOTE;
+                } else if (srcState == SRC_AWAIT_QUOTE && c == '\'') {
+                    awaiting |= AWAIT_SQUOTE;
+                    srcState = SRC_NONE;
+                } else if (srcState == SRC_AWAIT_QUOTE && c == '"') {
+                    awaiting |= AWAIT_DQUOTE;
+                    srcState = SRC_NONE;
+                } else {
+                    srcState = SRC_NONE;
+                }
+            }
+
+            // 3. 키워드 (키워드에는 ASCII 문자만 있으므로 그 외 문자는 처음 상태로)
+            state = c < ALPHABET ? TRANSITIONS[state * ALPHABET + toLowerAscii(c)] : 0;
+            int output = OUTPUTS[state];
+            if (output != 0) {
+                if ((output & MATCH) != 0) {
+                    return true;
+                }
+                awaiting |= output & (AWAIT_GT | AWAIT_PAREN | AWAIT_EQUALS);
+                if ((output & SRC) != 0) {
+                    srcState = SRC_AWAIT_EQUALS;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int closerBit(char c) {
+        switch (c) {
+            case '>':
+                return AWAIT_GT;
+            case ')':
+                return AWAIT_PAREN;
+            case '=':
+                return AWAIT_EQUALS;
+            case '\'':
+                return AWAIT_SQUOTE;
+            case '"':
+                return AWAIT_DQUOTE;
+            default:
+                return 0;
+        }
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
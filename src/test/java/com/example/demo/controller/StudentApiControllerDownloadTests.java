@@ -0,0 +1,115 @@
+package com.example.demo.controller;
+
+import com.example.demo.domain.Student;
+import com.example.demo.domain.Submission;
+import com.example.demo.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 제출 파일 다운로드의 Range(206, 다중 구간, 416)와 ETag(304) 처리 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class StudentApiControllerDownloadTests {
+
+    private static final int SUBMISSION_CODE = 7;
+    private static final String STUDENT_ID = "download-student";
+    private static final String URL = "/api/student/submission/" + SUBMISSION_CODE + "/download";
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @Mock
+    private StudentService studentService;
+
+    @InjectMocks
+    private StudentApiController controller;
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("report.txt"), CONTENT, StandardCharsets.US_ASCII);
+
+        Submission submission = new Submission();
+        submission.setSubmissionCode(SUBMISSION_CODE);
+        submission.setStudentId(STUDENT_ID);
+        submission.setFilePath(file.toString());
+        submission.setOriginalFileName("report.txt");
+        submission.setFileContentType("text/plain");
+        when(studentService.getSubmissionById(SUBMISSION_CODE)).thenReturn(submission);
+
+        Student student = new Student();
+        student.setStudentId(STUDENT_ID);
+        session = new MockHttpSession();
+        session.setAttribute("userId", STUDENT_ID);
+        session.setAttribute("user", student);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+        mockMvc.perform(get(URL).session(session).header(HttpHeaders.RANGE, "bytes=0-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-4/" + CONTENT.length()))
+                .andExpect(content().string("01234"));
+    }
+
+    @Test
+    void multipleRangesReturnMultipartByteranges() throws Exception {
+        MvcResult result = mockMvc.perform(get(URL).session(session).header(HttpHeaders.RANGE, "bytes=0-1,10-11"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentType().startsWith("multipart/byteranges"));
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("Content-Range: bytes 0-1/" + CONTENT.length()));
+        assertTrue(body.contains("Content-Range: bytes 10-11/" + CONTENT.length()));
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        mockMvc.perform(get(URL).session(session).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get(URL).session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult second = mockMvc.perform(get(URL).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertEquals(0, second.getResponse().getContentLength());
+    }
+}
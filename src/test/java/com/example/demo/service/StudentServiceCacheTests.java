@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.domain.Enrollment;
+import com.example.demo.domain.Student;
+import com.example.demo.repository.AssignmentRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.EnrollmentRepository;
+import com.example.demo.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 확인 (같은 조회를 반복하면 SQL 없이 캐시에서 읽음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentServiceCacheTests {
+
+    private static final String STUDENT_ID = "cache-student";
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (studentRepository.existsById(STUDENT_ID)) {
+            return;
+        }
+
+        Student student = new Student();
+        student.setStudentId(STUDENT_ID);
+        student.setName("캐시 학생");
+        student.setAllowed(true);
+        studentRepository.save(student);
+
+        for (int i = 1; i <= 3; i++) {
+            Course course = new Course();
+            course.setCourseCode("CACHE-" + i);
+            course.setCourseName("캐시 강의 " + i);
+            courseRepository.save(course);
+
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudentId(STUDENT_ID);
+            enrollment.setCourseCode(course.getCourseCode());
+            enrollmentRepository.save(enrollment);
+
+            Assignment assignment = new Assignment();
+            assignment.setCourseCode(course.getCourseCode());
+            assignment.setTitle("캐시 과제 " + i);
+            assignment.setCreatedDate(LocalDateTime.now());
+            assignmentRepository.save(assignment);
+        }
+    }
+
+    @Test
+    void studentCoursesAreServedFromSecondLevelCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 첫 조회로 캐시 적재
+        List<Course> first = studentService.getStudentCourses(STUDENT_ID);
+        assertEquals(3, first.size());
+
+        long statements = statistics.getPrepareStatementCount();
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        List<Course> second = studentService.getStudentCourses(STUDENT_ID);
+        assertEquals(3, second.size());
+        assertEquals(1, second.get(0).getAssignments().size());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hits, "2차 캐시 적중 수가 늘어야 함");
+        assertEquals(statements, statistics.getPrepareStatementCount(), "두 번째 조회는 SQL을 실행하지 않아야 함");
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Assignment;
+import com.example.demo.domain.Course;
+import com.example.demo.domain.Student;
+import com.example.demo.domain.Submission;
+import com.example.demo.dto.SubmissionSummaryDTO;
+import com.example.demo.repository.AssignmentRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.StudentRepository;
+import com.example.demo.repository.SubmissionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 제출물 목록 조회의 SQL 실행 수 확인 (제출물 수와 관계없이 일정해야 함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentSubmissionQueryTests {
+
+    private static final int N = 5;
+    private static final String COURSE_CODE = "QUERY-1";
+    private static final String FEW_STUDENT_ID = "query-few";
+    private static final String MANY_STUDENT_ID = "query-many";
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (studentRepository.existsById(FEW_STUDENT_ID)) {
+            return;
+        }
+
+        Course course = new Course();
+        course.setCourseCode(COURSE_CODE);
+        course.setCourseName("조회 강의");
+        courseRepository.save(course);
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 1; i <= 10 * N; i++) {
+            Assignment assignment = new Assignment();
+            assignment.setCourseCode(COURSE_CODE);
+            assignment.setTitle("조회 과제 " + i);
+            assignment.setCreatedDate(LocalDateTime.now());
+            assignments.add(assignment);
+        }
+        assignments = assignmentRepository.saveAll(assignments);
+
+        saveSubmissions(FEW_STUDENT_ID, assignments.subList(0, N));
+        saveSubmissions(MANY_STUDENT_ID, assignments);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithSubmissions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long before = statistics.getPrepareStatementCount();
+        List<SubmissionSummaryDTO> few = studentService.getStudentSubmissions(FEW_STUDENT_ID);
+        long fewStatements = statistics.getPrepareStatementCount() - before;
+
+        before = statistics.getPrepareStatementCount();
+        List<SubmissionSummaryDTO> many = studentService.getStudentSubmissions(MANY_STUDENT_ID);
+        long manyStatements = statistics.getPrepareStatementCount() - before;
+
+        assertEquals(N, few.size());
+        assertEquals(10 * N, many.size());
+        assertNotNull(many.get(0).getAssignmentTitle());
+        assertNotNull(many.get(0).getCourseName());
+        assertEquals(1, fewStatements, "과제/강의 정보까지 조인 쿼리 1회로 조회해야 함");
+        assertEquals(fewStatements, manyStatements, "제출물 수가 늘어도 SQL 실행 수는 같아야 함");
+    }
+
+    private void saveSubmissions(String studentId, List<Assignment> assignments) {
+        Student student = new Student();
+        student.setStudentId(studentId);
+        student.setName("조회 학생 " + studentId);
+        student.setAllowed(true);
+        studentRepository.save(student);
+
+        List<Submission> submissions = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            Submission submission = new Submission();
+            submission.setAssignmentCode(assignment.getAssignmentCode());
+            submission.setStudentId(studentId);
+            submission.setContent("제출 내용 " + assignment.getAssignmentCode());
+            submission.setSubmissionTime(LocalDateTime.now());
+            submission.setLastModifiedDate(LocalDateTime.now());
+            submissions.add(submission);
+        }
+        submissionRepository.saveAll(submissions);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * InputSanitizer와 HtmlUtils.htmlEscape의 결과 비교
+ */
+class InputSanitizerTests {
+
+    // 치환표 경계 (0 ~ 999, 8000 ~ 9999만 문자 참조 후보), 서로게이트, 공백/제어 문자
+    private static final char[] BOUNDARY_CHARS = {
+            0, 1, '\t', '\n', '\r', ' ', '!', '"', '&', '\'', '<', '>', '~', 127, 128, 160, 255,
+            998, 999, 1000, 1001,
+            7999, 8000, 8001, 8364, 8482,
+            9998, 9999, 10000, 10001,
+            0xD800, 0xD83D, 0xDBFF, 0xDC00, 0xDE00, 0xDFFF,
+            '가', '힣', 0xFEFF, 0xFFFF
+    };
+
+    @Test
+    void matchesHtmlEscapeForEveryChar() throws IOException {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            String input = "a" + (char) c + "b";
+            assertAllMatch(input);
+        }
+    }
+
+    @Test
+    void matchesHtmlEscapeOnBoundaryChars() throws IOException {
+        for (char c : BOUNDARY_CHARS) {
+            assertAllMatch(String.valueOf(c));
+            assertAllMatch(" " + c + " ");
+            assertAllMatch(c + "<" + c);
+        }
+        // 서로게이트 쌍 (이모지, 보조 평면 한자)과 짝이 맞지 않는 서로게이트
+        assertAllMatch("😀 <b>😀</b>");
+        assertAllMatch("𠀀&𠀀");
+        assertAllMatch("\uD83D<\uDE00");
+        assertAllMatch("\uDE00\uD83D");
+    }
+
+    @Test
+    void matchesHtmlEscapeOnRandomInputs() throws IOException {
+        Random random = new Random(20240603L);
+        for (int i = 0; i < 100_000; i++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = randomChar(random);
+            }
+            assertAllMatch(new String(chars));
+        }
+    }
+
+    @Test
+    void returnsSameInstanceWhenNothingChanges() {
+        List<String> clean = List.of(
+                "",
+                "안녕하세요. 과제 제출합니다.",
+                "plain ascii text 123",
+                "수식 f(x) = 2x + 1",
+                "😀 이모지",
+                String.valueOf((char) 1000) + (char) 7999 + (char) 10000
+        );
+        for (String input : clean) {
+            assertSame(input, InputSanitizer.sanitize(input), input);
+            assertSame(input, XSSUtils.sanitizeInput(input), input);
+            assertSame(input, InputSanitizer.sanitizeTrimmed(input), input);
+        }
+    }
+
+    @Test
+    void trimsControlCharactersLikeStringTrim() throws IOException {
+        List<String> inputs = List.of(
+                "\u0000\u0001 text \u001f\u0000",
+                "\t\r\n<b>\r\n\t",
+                " ! ",
+                // 0x7F, NBSP, 전각 공백은 String.trim()이 제거하지 않음
+                "\u007f text \u007f",
+                "  text  ",
+                "　 text 　",
+                "\u0000\u0000\u0000",
+                " ",
+                "",
+                "\u0001&\u0001"
+        );
+        for (String input : inputs) {
+            assertAllMatch(input);
+        }
+    }
+
+    @Test
+    void handlesNull() throws IOException {
+        assertNull(InputSanitizer.sanitize(null));
+        assertNull(InputSanitizer.sanitizeTrimmed(null));
+
+        StringWriter out = new StringWriter();
+        InputSanitizer.sanitize((CharSequence) null, out);
+        assertEquals("", out.toString());
+    }
+
+    // sanitize, sanitizeTrimmed, Writer 방식 모두 HtmlUtils 결과와 같은지 확인
+    private static void assertAllMatch(String input) throws IOException {
+        String expected = HtmlUtils.htmlEscape(input);
+        assertEquals(expected, InputSanitizer.sanitize(input), () -> "입력: " + codePoints(input));
+        assertEquals(HtmlUtils.htmlEscape(input.trim()), InputSanitizer.sanitizeTrimmed(input),
+                () -> "trim 입력: " + codePoints(input));
+
+        StringWriter out = new StringWriter();
+        InputSanitizer.sanitize(input, out);
+        assertEquals(expected, out.toString(), () -> "Writer 입력: " + codePoints(input));
+    }
+
+    // 경계 문자 주변에 몰리도록 섞어서 생성
+    private static char randomChar(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> BOUNDARY_CHARS[random.nextInt(BOUNDARY_CHARS.length)];
+            case 1 -> (char) random.nextInt(128);
+            case 2 -> (char) random.nextInt(10_000);  // 치환표가 있는 범위 전체
+            case 3 -> (char) (0xAC00 + random.nextInt(11172));
+            default -> (char) random.nextInt(Character.MAX_VALUE + 1);
+        };
+    }
+
+    private static String codePoints(String input) {
+        StringBuilder builder = new StringBuilder();
+        input.chars().forEach(c -> builder.append(String.format("\\u%04x", c)));
+        return builder.toString();
+    }
+}
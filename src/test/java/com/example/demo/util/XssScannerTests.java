@@ -0,0 +1,146 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * XssScanner와 이전 정규식 검사의 결과 비교
+ */
+class XssScannerTests {
+
+    // 이전 XSSUtils.containsXSS가 사용하던 정규식 (비교 기준)
+    private static final Pattern[] LEGACY_PATTERNS = {
+            Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("src[\\r\\n]*=[\\r\\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onerror(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onclick(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("onmouseover(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
+    };
+
+    // 무작위 입력 조각 (키워드 일부, 닫는 문자, 대소문자 변형, 한글, ASCII 밖의 대소문자 문자)
+    private static final List<String> FRAGMENTS = List.of(
+            "<", ">", "/", "(", ")", "=", "'", "\"", ":", " ", "\r", "\n", "\t",
+            "<script", "<SCRIPT", "<scr", "ipt", "</script>", "</SCRIPT", "script>",
+            "src", "SRC", "sr", "c", "s",
+            "eval", "EVAL(", "eval(", "ev", "al(", "expression(", "expres", "sion(",
+            "javascript", "javascript:", "JavaScript:", "java", "script:",
+            "vbscript:", "VBScript", "vb",
+            "onload", "onLoad", "onerror", "ONERROR", "onclick", "onmouseover", "onmouse", "over", "on",
+            "과제", "제출합니다", "안녕하세요 교수님", "수식 f(x) = 2x", "ſ", "K", "İ", "ı"
+    );
+
+    @Test
+    void detectsKnownPayloads() {
+        List<String> payloads = List.of(
+                "<script>alert(1)</script>",
+                "<ScRiPt src=//evil>",
+                "<img src='x'>",
+                "<img SRC\r\n=\n\"x\">",
+                "</SCRIPT>",
+                "a = eval(location.hash)",
+                "width: expression(alert(1))",
+                "<a href=\"JAVASCRIPT:alert(1)\">",
+                "vbscript:msgbox",
+                "<body onload=init()>",
+                "<img onerror\n=alert(1)>",
+                "<div onclick='x'>",
+                "<p onMouseOver=\"x\">",
+                "과제 제출 <script>alert('안녕')</script> 입니다"
+        );
+        for (String payload : payloads) {
+            assertTrue(XssScanner.containsXSS(payload), payload);
+            assertEquals(legacyContainsXSS(payload), XssScanner.containsXSS(payload), payload);
+        }
+    }
+
+    @Test
+    void allowsOrdinaryText() {
+        List<String> texts = List.of(
+                "",
+                "안녕하세요. 과제 제출합니다.",
+                "The evaluation (see appendix) is complete.",
+                "source = 'main.c'",
+                "sr c='x'",
+                "src ='x'",
+                "src=\"unterminated",
+                "<scrip>",
+                "<script",
+                "eval(",
+                "java script:",
+                "online = false",
+                "on load = 1",
+                // ASCII 밖의 문자는 대소문자를 무시해도 키워드로 보지 않음 (정규식의 CASE_INSENSITIVE와 동일)
+                "<ſcript>",
+                "javaſcript:"
+        );
+        for (String text : texts) {
+            assertFalse(XssScanner.containsXSS(text), text);
+            assertEquals(legacyContainsXSS(text), XssScanner.containsXSS(text), text);
+        }
+    }
+
+    @Test
+    void matchesLegacyRegexOnRandomInputs() {
+        Random random = new Random(20240521L);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int pieces = 1 + random.nextInt(8);
+            for (int j = 0; j < pieces; j++) {
+                input.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            String text = input.toString();
+            assertEquals(legacyContainsXSS(text), XssScanner.containsXSS(text), () -> "입력: " + escape(text));
+        }
+    }
+
+    @Test
+    void matchesLegacyRegexOnRandomCharacters() {
+        // 키워드 문자와 닫는 문자만으로 만든 짧은 문자열 (겹치는 키워드, 실패 전이 확인)
+        String alphabet = "<>/()='\":\r\nscriptSCRIPTevalxonldckmurjvbp";
+        Random random = new Random(42L);
+        for (int i = 0; i < 300_000; i++) {
+            char[] chars = new char[1 + random.nextInt(16)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            String text = new String(chars);
+            assertEquals(legacyContainsXSS(text), XssScanner.containsXSS(text), () -> "입력: " + escape(text));
+        }
+    }
+
+    @Test
+    void xssUtilsUsesScanner() {
+        assertFalse(XSSUtils.containsXSS(null));
+        assertFalse(XSSUtils.containsXSS(""));
+        assertTrue(XSSUtils.containsXSS("<script>"));
+        assertFalse(XSSUtils.containsXSS("일반 텍스트"));
+    }
+
+    private static boolean legacyContainsXSS(String input) {
+        for (Pattern pattern : LEGACY_PATTERNS) {
+            if (pattern.matcher(input).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\r", "\\r").replace("\n", "\\n");
+    }
+}